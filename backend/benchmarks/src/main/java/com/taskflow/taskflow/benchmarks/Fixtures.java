@@ -0,0 +1,79 @@
+package com.taskflow.taskflow.benchmarks;
+
+import com.taskflow.taskflow.comment.TaskComment;
+import com.taskflow.taskflow.project.Project;
+import com.taskflow.taskflow.task.TaskItem;
+import com.taskflow.taskflow.task.TaskStatus;
+import com.taskflow.taskflow.user.UserAccount;
+import com.taskflow.taskflow.user.UserRole;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Deterministic, fully initialised entity graphs shaped like production data (assignees, comments with authors).
+ */
+final class Fixtures {
+
+    private Fixtures() {
+    }
+
+    static UserAccount user(long id) {
+        UserAccount user = UserAccount.builder()
+                .id(id)
+                .email("user" + id + "@taskflow.dev")
+                .fullName("User " + id)
+                .passwordHash("$2a$10$7EqJtq98hPqEX7fNZaFWoOHiA1r7r1F6M2G2xHcM1G2E4Hn0l6Q5e")
+                .createdAt(Instant.parse("2024-01-01T00:00:00Z"))
+                .build();
+        user.getRoles().add(UserRole.MEMBER);
+        if (id % 10 == 0) {
+            user.getRoles().add(UserRole.ADMIN);
+        }
+        return user;
+    }
+
+    static Project project(int taskCount, int commentsPerTask) {
+        UserAccount owner = user(1);
+        List<UserAccount> people = new ArrayList<>();
+        for (long id = 1; id <= 20; id++) {
+            people.add(user(id));
+        }
+        Project project = Project.builder()
+                .id(1L)
+                .name("Benchmark project")
+                .description("Synthetic project used by the JMH suites")
+                .owner(owner)
+                .createdAt(Instant.parse("2024-01-01T00:00:00Z"))
+                .build();
+        TaskStatus[] statuses = TaskStatus.values();
+        for (int i = 0; i < taskCount; i++) {
+            TaskItem task = TaskItem.builder()
+                    .id((long) i + 1)
+                    .title("Task " + i + " - refine the onboarding flow")
+                    .description("Longer description for task " + i + " so payloads resemble real cards.")
+                    .status(statuses[i % statuses.length])
+                    .dueDate(LocalDate.of(2025, 1, 1).plusDays(i % 365))
+                    .project(project)
+                    .assignee(people.get(i % people.size()))
+                    .createdAt(Instant.parse("2024-02-01T00:00:00Z").plusSeconds(i))
+                    .updatedAt(Instant.parse("2024-03-01T00:00:00Z").plusSeconds(i))
+                    .commentCount(commentsPerTask)
+                    .lastCommentAt(commentsPerTask == 0 ? null : Instant.parse("2024-02-02T00:00:00Z").plusSeconds(commentsPerTask - 1))
+                    .build();
+            for (int c = 0; c < commentsPerTask; c++) {
+                task.getComments().add(TaskComment.builder()
+                        .id((long) i * commentsPerTask + c + 1)
+                        .body("Comment " + c + " on task " + i)
+                        .author(people.get((i + c) % people.size()))
+                        .task(task)
+                        .createdAt(Instant.parse("2024-02-02T00:00:00Z").plusSeconds(c))
+                        .build());
+            }
+            project.getTasks().add(task);
+        }
+        return project;
+    }
+}
@@ -0,0 +1,59 @@
+package com.taskflow.taskflow.benchmarks;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.taskflow.taskflow.comment.CommentMapperImpl;
+import com.taskflow.taskflow.project.Project;
+import com.taskflow.taskflow.project.ProjectMapper;
+import com.taskflow.taskflow.project.ProjectMapperImpl;
+import com.taskflow.taskflow.project.dto.ProjectDto;
+import com.taskflow.taskflow.task.TaskMapperImpl;
+import com.taskflow.taskflow.task.dto.TaskDto;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Response serialisation with the same Jackson settings as application.yml (ISO dates, java.time support).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class JacksonBenchmark {
+
+    @Param({"100", "5000"})
+    public int tasks;
+
+    private ObjectMapper objectMapper;
+    private List<TaskDto> taskDtos;
+    private ProjectDto projectDto;
+
+    @Setup
+    public void setUp() {
+        objectMapper = new ObjectMapper()
+                .registerModule(new JavaTimeModule())
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+        Project project = Fixtures.project(tasks, 3);
+        try (AnnotationConfigApplicationContext context =
+                     new AnnotationConfigApplicationContext(CommentMapperImpl.class, TaskMapperImpl.class, ProjectMapperImpl.class)) {
+            projectDto = context.getBean(ProjectMapper.class).toDto(project);
+        }
+        taskDtos = projectDto.tasks();
+    }
+
+    @Benchmark
+    public byte[] serializeTaskList() throws Exception {
+        return objectMapper.writeValueAsBytes(taskDtos);
+    }
+
+    @Benchmark
+    public byte[] serializeProject() throws Exception {
+        return objectMapper.writeValueAsBytes(projectDto);
+    }
+}
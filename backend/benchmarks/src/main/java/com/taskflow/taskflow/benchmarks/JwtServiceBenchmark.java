@@ -0,0 +1,60 @@
+package com.taskflow.taskflow.benchmarks;
+
+import com.auth0.jwt.interfaces.DecodedJWT;
+import com.taskflow.taskflow.config.JwtProperties;
+import com.taskflow.taskflow.security.JwtService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.*;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Token minting and verification as done on every login and every authenticated request.
+ * `verifyUncached` is the cost of a token the verified-token cache has not seen yet.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class JwtServiceBenchmark {
+
+    private JwtService cachingService;
+    private JwtService uncachedService;
+    private String token;
+
+    @Setup
+    public void setUp() {
+        cachingService = new JwtService(properties(10_000), new SimpleMeterRegistry());
+        uncachedService = new JwtService(properties(0), new SimpleMeterRegistry());
+        token = cachingService.createAccessToken("user1@taskflow.dev", Map.of("fullName", "User 1"));
+    }
+
+    @Benchmark
+    public String createAccessToken() {
+        return cachingService.createAccessToken("user1@taskflow.dev", Map.of("fullName", "User 1"));
+    }
+
+    @Benchmark
+    public DecodedJWT verifyUncached() {
+        return uncachedService.verify(token);
+    }
+
+    @Benchmark
+    public DecodedJWT verifyCached() {
+        return cachingService.verify(token);
+    }
+
+    private static JwtProperties properties(long cacheSize) {
+        JwtProperties properties = new JwtProperties();
+        properties.setIssuer("taskflow");
+        properties.setSecret("benchmark-secret-benchmark-secret");
+        properties.setAccessTokenTtl(Duration.ofMinutes(15));
+        properties.setRefreshTokenTtl(Duration.ofDays(7));
+        properties.setVerifiedTokenCacheSize(cacheSize);
+        return properties;
+    }
+}
@@ -0,0 +1,64 @@
+package com.taskflow.taskflow.benchmarks;
+
+import com.taskflow.taskflow.comment.CommentMapperImpl;
+import com.taskflow.taskflow.project.Project;
+import com.taskflow.taskflow.project.ProjectMapper;
+import com.taskflow.taskflow.project.ProjectMapperImpl;
+import com.taskflow.taskflow.project.dto.ProjectDto;
+import com.taskflow.taskflow.task.TaskItem;
+import com.taskflow.taskflow.task.TaskMapper;
+import com.taskflow.taskflow.task.TaskMapperImpl;
+import com.taskflow.taskflow.task.dto.TaskDto;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * MapStruct entity-to-DTO mapping over large project graphs, wired exactly as Spring wires the generated mappers.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class MapperBenchmark {
+
+    @Param({"100", "5000"})
+    public int tasks;
+
+    @Param({"0", "5"})
+    public int commentsPerTask;
+
+    private AnnotationConfigApplicationContext context;
+    private TaskMapper taskMapper;
+    private ProjectMapper projectMapper;
+    private Project project;
+    private List<TaskItem> taskList;
+
+    @Setup
+    public void setUp() {
+        context = new AnnotationConfigApplicationContext(CommentMapperImpl.class, TaskMapperImpl.class, ProjectMapperImpl.class);
+        taskMapper = context.getBean(TaskMapper.class);
+        projectMapper = context.getBean(ProjectMapper.class);
+        project = Fixtures.project(tasks, commentsPerTask);
+        taskList = project.getTasks();
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public List<TaskDto> taskMapperToDto() {
+        return taskList.stream().map(taskMapper::toDto).toList();
+    }
+
+    @Benchmark
+    public ProjectDto projectMapperToDto() {
+        return projectMapper.toDto(project);
+    }
+}
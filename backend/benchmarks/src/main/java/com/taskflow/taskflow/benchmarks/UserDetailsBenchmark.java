@@ -0,0 +1,60 @@
+package com.taskflow.taskflow.benchmarks;
+
+import com.taskflow.taskflow.security.AuthenticatedUser;
+import com.taskflow.taskflow.security.CustomUserDetailsService;
+import com.taskflow.taskflow.user.UserAccount;
+import com.taskflow.taskflow.user.UserEmailLookup;
+import com.taskflow.taskflow.user.UserRepository;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.security.core.userdetails.UserDetails;
+
+import java.lang.reflect.Proxy;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Principal construction in `CustomUserDetailsService`, isolated from the database by a repository stub that answers the
+ * {@link UserEmailLookup} fragment from memory.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class UserDetailsBenchmark {
+
+    private CustomUserDetailsService userDetailsService;
+
+    @Setup
+    public void setUp() {
+        UserAccount admin = Fixtures.user(10);
+        // Implemented with @Override, so renaming or reshaping the lookup breaks this build rather than the run.
+        UserEmailLookup lookup = new UserEmailLookup() {
+            @Override
+            public Optional<UserAccount> lookupByEmail(String email) {
+                return Optional.of(admin);
+            }
+        };
+        UserRepository repository = (UserRepository) Proxy.newProxyInstance(
+                UserRepository.class.getClassLoader(),
+                new Class<?>[]{UserRepository.class},
+                (proxy, method, args) -> {
+                    if (method.getDeclaringClass() == UserEmailLookup.class) {
+                        return method.invoke(lookup, args);
+                    }
+                    throw new UnsupportedOperationException(method.getName());
+                });
+        userDetailsService = new CustomUserDetailsService(repository);
+    }
+
+    @Benchmark
+    public UserDetails loadUserByUsername() {
+        return userDetailsService.loadUserByUsername("user10@taskflow.dev");
+    }
+
+    @Benchmark
+    public AuthenticatedUser loadPrincipal() {
+        return userDetailsService.loadPrincipal("user10@taskflow.dev");
+    }
+}
@@ -0,0 +1,128 @@
+package com.taskflow.taskflow.benchmarks;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.taskflow.taskflow.comment.CommentMapperImpl;
+import com.taskflow.taskflow.config.WireFormatConfig;
+import com.taskflow.taskflow.project.ProjectMapper;
+import com.taskflow.taskflow.project.ProjectMapperImpl;
+import com.taskflow.taskflow.project.dto.ProjectDto;
+import com.taskflow.taskflow.task.TaskMapperImpl;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.IterationParams;
+import org.openjdk.jmh.runner.IterationType;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * CPU per response for each negotiable encoding of a project board, with and without gzip, written the way the
+ * server writes it: streamed into an output stream, never materialised as a byte array.
+ * Bytes per response are reported next to the timing as the `bytes` secondary result, so they land in
+ * `jmh-result.json` with every run.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class WireFormatBenchmark {
+
+    @Param({"100", "5000"})
+    public int tasks;
+
+    @Param({"json", "cbor", "smile"})
+    public String format;
+
+    private ObjectMapper objectMapper;
+    private ProjectDto projectDto;
+
+    @Setup
+    public void setUp() throws IOException {
+        objectMapper = switch (format) {
+            case "json" -> new Jackson2ObjectMapperBuilder()
+                    .featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                    .build();
+            case "cbor" -> WireFormatConfig.binaryObjectMapper(new Jackson2ObjectMapperBuilder(), new CBORFactory());
+            case "smile" -> WireFormatConfig.binaryObjectMapper(new Jackson2ObjectMapperBuilder(), new SmileFactory());
+            default -> throw new IllegalArgumentException("Unknown format: " + format);
+        };
+        try (AnnotationConfigApplicationContext context =
+                     new AnnotationConfigApplicationContext(CommentMapperImpl.class, TaskMapperImpl.class, ProjectMapperImpl.class)) {
+            projectDto = context.getBean(ProjectMapper.class).toDto(Fixtures.project(tasks, 3));
+        }
+    }
+
+    @Benchmark
+    public long serialize(ResponseSize size) throws IOException {
+        CountingOutputStream out = new CountingOutputStream();
+        objectMapper.writeValue(out, projectDto);
+        size.record(out.count);
+        return out.count;
+    }
+
+    /**
+     * Default deflate level, as used by Tomcat's response compression.
+     */
+    @Benchmark
+    public long serializeGzip(ResponseSize size) throws IOException {
+        CountingOutputStream out = new CountingOutputStream();
+        try (GZIPOutputStream gzip = new GZIPOutputStream(out, 8192)) {
+            objectMapper.writeValue(gzip, projectDto);
+        }
+        size.record(out.count);
+        return out.count;
+    }
+
+    /**
+     * Bytes in one response. JMH sums event counters over the measurement iterations, so the size is recorded in the
+     * first measurement iteration only and the reported score is exactly one response.
+     */
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class ResponseSize {
+
+        public long bytes;
+
+        private boolean recorded;
+        private boolean recording;
+
+        @Setup(Level.Iteration)
+        public void startIteration(IterationParams iteration) {
+            bytes = 0;
+            recording = !recorded && iteration.getType() == IterationType.MEASUREMENT;
+            recorded |= recording;
+        }
+
+        void record(long count) {
+            if (recording) {
+                bytes = count;
+            }
+        }
+    }
+
+    /**
+     * Stands in for the socket: counts bytes and discards them.
+     */
+    private static final class CountingOutputStream extends OutputStream {
+
+        private long count;
+
+        @Override
+        public void write(int b) {
+            count++;
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) {
+            count += len;
+        }
+    }
+}
@@ -0,0 +1,69 @@
+package com.taskflow.taskflow.loadtest;
+
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Per-operation latency histogram (microseconds, 3 significant digits) and outcome counters.
+ */
+final class LatencyStats {
+
+    private final Histogram histogram = new ConcurrentHistogram(3);
+    private final AtomicLong errors = new AtomicLong();
+    private final AtomicLong dropped = new AtomicLong();
+    private final Map<Integer, AtomicLong> statusCodes = new ConcurrentHashMap<>();
+
+    void record(long latencyNanos, int statusCode) {
+        histogram.recordValue(Math.max(1, latencyNanos / 1_000));
+        statusCodes.computeIfAbsent(statusCode, code -> new AtomicLong()).incrementAndGet();
+        if (statusCode >= 400) {
+            errors.incrementAndGet();
+        }
+    }
+
+    /** Transport failures and timeouts still count toward latency: the caller waited that long for nothing. */
+    void recordFailure(long latencyNanos) {
+        histogram.recordValue(Math.max(1, latencyNanos / 1_000));
+        errors.incrementAndGet();
+    }
+
+    /** Arrivals not sent because too many requests were outstanding. */
+    void recordDropped() {
+        dropped.incrementAndGet();
+    }
+
+    long completed() {
+        return histogram.getTotalCount();
+    }
+
+    long errors() {
+        return errors.get() + dropped.get();
+    }
+
+    long dropped() {
+        return dropped.get();
+    }
+
+    double percentileMillis(double percentile) {
+        return histogram.getValueAtPercentile(percentile) / 1_000.0;
+    }
+
+    double maxMillis() {
+        return histogram.getMaxValue() / 1_000.0;
+    }
+
+    Map<Integer, Long> statusCodes() {
+        Map<Integer, Long> codes = new TreeMap<>();
+        statusCodes.forEach((code, count) -> codes.put(code, count.get()));
+        return codes;
+    }
+
+    void addTo(Histogram total) {
+        total.add(histogram);
+    }
+}
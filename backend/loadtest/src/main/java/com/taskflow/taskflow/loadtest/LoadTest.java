@@ -0,0 +1,197 @@
+package com.taskflow.taskflow.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.HdrHistogram.Histogram;
+
+import java.io.IOException;
+import java.net.http.HttpClient;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Open-model load generator: requests are started on a fixed schedule whether or not earlier ones have
+ * returned, and every latency is measured from the scheduled start rather than the actual send. A stalled
+ * server therefore shows up as queueing delay in the percentiles instead of silently lowering the offered
+ * load (coordinated omission).
+ */
+public final class LoadTest {
+
+    private final LoadTestConfig config;
+    private final HttpClient client;
+    private final Map<Operation, LatencyStats> stats = new EnumMap<>(Operation.class);
+    private final AtomicInteger inFlight = new AtomicInteger();
+
+    private LoadTest(LoadTestConfig config) {
+        this.config = config;
+        this.client = HttpClient.newBuilder()
+                .connectTimeout(Duration.ofSeconds(5))
+                .executor(Executors.newFixedThreadPool(Math.max(4, Runtime.getRuntime().availableProcessors())))
+                .build();
+    }
+
+    public static void main(String[] args) throws Exception {
+        LoadTestConfig config = LoadTestConfig.parse(args);
+        new LoadTest(config).run();
+        System.exit(0);
+    }
+
+    private void run() throws Exception {
+        Scenario scenario = new Scenario(config, client);
+        System.out.printf("Setting up %d users with %d tasks each against %s%n", config.users, config.tasksPerUser, config.baseUrl);
+        scenario.setUp();
+
+        Operation[] schedule = weightedSchedule();
+        System.out.printf("Warm-up %s at %d req/s%n", config.warmup, config.rate);
+        drive(scenario, schedule, config.warmup, null);
+
+        for (Operation operation : Operation.values()) {
+            stats.put(operation, new LatencyStats());
+        }
+        System.out.printf("Measuring %s at %d req/s%n", config.duration, config.rate);
+        Instant started = Instant.now();
+        drive(scenario, schedule, config.duration, stats);
+        awaitInFlight();
+        double elapsedSeconds = Duration.between(started, Instant.now()).toNanos() / 1e9;
+
+        printSummary(elapsedSeconds);
+        System.out.printf("Access tokens renewed after a rejection: %d%n", scenario.renewals());
+        writeReport(elapsedSeconds, scenario.renewals());
+    }
+
+    /**
+     * Issues `rate * duration` requests, the i-th one intended to start at `start + i / rate`. When the
+     * dispatcher falls behind it catches up immediately rather than skipping slots.
+     */
+    private void drive(Scenario scenario, Operation[] schedule, Duration phase, Map<Operation, LatencyStats> sink) {
+        long intervalNanos = 1_000_000_000L / config.rate;
+        long total = phase.toNanos() / intervalNanos;
+        long start = System.nanoTime();
+        for (long i = 0; i < total; i++) {
+            long intendedStart = start + i * intervalNanos;
+            long wait = intendedStart - System.nanoTime();
+            if (wait > 0) {
+                LockSupport.parkNanos(wait);
+            }
+            Operation operation = schedule[ThreadLocalRandom.current().nextInt(schedule.length)];
+            LatencyStats target = sink == null ? null : sink.get(operation);
+            if (inFlight.get() >= config.maxInFlight) {
+                if (target != null) {
+                    target.recordDropped();
+                }
+                continue;
+            }
+            Scenario.Call call = scenario.next(operation);
+            inFlight.incrementAndGet();
+            client.sendAsync(call.request(), HttpResponse.BodyHandlers.ofByteArray())
+                    .whenComplete((response, failure) -> {
+                        long latency = System.nanoTime() - intendedStart;
+                        inFlight.decrementAndGet();
+                        if (failure != null) {
+                            if (target != null) {
+                                target.recordFailure(latency);
+                            }
+                            return;
+                        }
+                        if (target != null) {
+                            target.record(latency, response.statusCode());
+                        }
+                        if (response.statusCode() < 400) {
+                            scenario.onSuccess(call, response.body());
+                        } else if (response.statusCode() == 401 || response.statusCode() == 403) {
+                            scenario.onTokenRejected(call);
+                        }
+                    });
+        }
+    }
+
+    private Operation[] weightedSchedule() {
+        List<Operation> slots = new ArrayList<>();
+        config.mix.forEach((operation, weight) -> {
+            for (int i = 0; i < weight; i++) {
+                slots.add(operation);
+            }
+        });
+        return slots.toArray(Operation[]::new);
+    }
+
+    private void awaitInFlight() throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(60);
+        while (inFlight.get() > 0 && System.nanoTime() < deadline) {
+            Thread.sleep(50);
+        }
+    }
+
+    private void printSummary(double elapsedSeconds) {
+        System.out.printf("%n%-32s %9s %9s %8s %9s %9s %9s %9s%n",
+                "endpoint", "count", "req/s", "errors", "p50 ms", "p99 ms", "p99.9 ms", "max ms");
+        Histogram all = new Histogram(3);
+        long errors = 0;
+        for (Map.Entry<Operation, LatencyStats> entry : stats.entrySet()) {
+            LatencyStats s = entry.getValue();
+            if (s.completed() == 0 && s.dropped() == 0) {
+                continue;
+            }
+            s.addTo(all);
+            errors += s.errors();
+            printRow(entry.getKey().endpoint, s.completed(), s.completed() + s.dropped(), s.errors(), elapsedSeconds,
+                    s.percentileMillis(50), s.percentileMillis(99), s.percentileMillis(99.9), s.maxMillis());
+        }
+        long dropped = stats.values().stream().mapToLong(LatencyStats::dropped).sum();
+        printRow("TOTAL", all.getTotalCount(), all.getTotalCount() + dropped, errors, elapsedSeconds,
+                all.getValueAtPercentile(50) / 1_000.0, all.getValueAtPercentile(99) / 1_000.0,
+                all.getValueAtPercentile(99.9) / 1_000.0, all.getMaxValue() / 1_000.0);
+    }
+
+    private void printRow(String name, long completed, long attempted, long errors, double seconds,
+                          double p50, double p99, double p999, double max) {
+        System.out.printf("%-32s %9d %9.1f %7.2f%% %9.2f %9.2f %9.2f %9.2f%n",
+                name, completed, completed / seconds, attempted == 0 ? 0 : 100.0 * errors / attempted, p50, p99, p999, max);
+    }
+
+    private void writeReport(double elapsedSeconds, long tokenRenewals) throws IOException {
+        Map<String, Object> report = new LinkedHashMap<>();
+        report.put("baseUrl", config.baseUrl.toString());
+        report.put("targetRate", config.rate);
+        report.put("durationSeconds", elapsedSeconds);
+        report.put("tokenRenewals", tokenRenewals);
+        Map<String, Object> endpoints = new LinkedHashMap<>();
+        stats.forEach((operation, s) -> {
+            if (s.completed() == 0 && s.dropped() == 0) {
+                return;
+            }
+            Map<String, Object> row = new LinkedHashMap<>();
+            row.put("count", s.completed());
+            row.put("throughput", s.completed() / elapsedSeconds);
+            row.put("errors", s.errors());
+            row.put("dropped", s.dropped());
+            row.put("statusCodes", s.statusCodes());
+            row.put("p50Ms", s.percentileMillis(50));
+            row.put("p99Ms", s.percentileMillis(99));
+            row.put("p999Ms", s.percentileMillis(99.9));
+            row.put("maxMs", s.maxMillis());
+            endpoints.put(operation.endpoint, row);
+        });
+        report.put("endpoints", endpoints);
+
+        Path path = Path.of(config.report);
+        if (path.getParent() != null) {
+            Files.createDirectories(path.getParent());
+        }
+        new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT).writeValue(path.toFile(), report);
+        System.out.printf("%nReport written to %s%n", path.toAbsolutePath());
+    }
+}
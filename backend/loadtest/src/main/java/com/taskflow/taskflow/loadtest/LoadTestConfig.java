@@ -0,0 +1,77 @@
+package com.taskflow.taskflow.loadtest;
+
+import java.net.URI;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Command-line options, given as `key=value` arguments (a leading `--` is accepted too).
+ *
+ * <ul>
+ *     <li>`baseUrl` - backend root, default `http://localhost:8080`</li>
+ *     <li>`rate` - requests started per second, independent of how fast responses come back (default 100)</li>
+ *     <li>`duration` / `warmup` - ISO-8601 durations of the measured and discarded phases (default PT60S / PT10S)</li>
+ *     <li>`users` - accounts registered up front, each with its own project (default 20)</li>
+ *     <li>`tasksPerUser` - tasks seeded per project before the run (default 50)</li>
+ *     <li>`maxInFlight` - requests allowed outstanding before new arrivals are dropped and counted as errors (default 2000)</li>
+ *     <li>`mix` - operation weights, e.g. `listTasks:40,getProject:10,createTask:15,updateStatus:20,addComment:15,login:0`</li>
+ *     <li>`report` - path of the JSON report (default `target/loadtest-report.json`)</li>
+ * </ul>
+ */
+final class LoadTestConfig {
+
+    URI baseUrl = URI.create("http://localhost:8080");
+    int rate = 100;
+    Duration duration = Duration.ofSeconds(60);
+    Duration warmup = Duration.ofSeconds(10);
+    int users = 20;
+    int tasksPerUser = 50;
+    int maxInFlight = 2000;
+    String report = "target/loadtest-report.json";
+    final Map<Operation, Integer> mix = new LinkedHashMap<>();
+
+    LoadTestConfig() {
+        mix.put(Operation.LIST_TASKS, 40);
+        mix.put(Operation.GET_PROJECT, 10);
+        mix.put(Operation.CREATE_TASK, 15);
+        mix.put(Operation.UPDATE_STATUS, 20);
+        mix.put(Operation.ADD_COMMENT, 15);
+        mix.put(Operation.LOGIN, 0);
+    }
+
+    static LoadTestConfig parse(String[] args) {
+        LoadTestConfig config = new LoadTestConfig();
+        for (String arg : args) {
+            String option = arg.startsWith("--") ? arg.substring(2) : arg;
+            int separator = option.indexOf('=');
+            if (separator < 0) {
+                throw new IllegalArgumentException("Expected key=value but got: " + arg);
+            }
+            String key = option.substring(0, separator);
+            String value = option.substring(separator + 1);
+            switch (key) {
+                case "baseUrl" -> config.baseUrl = URI.create(value.endsWith("/") ? value.substring(0, value.length() - 1) : value);
+                case "rate" -> config.rate = Integer.parseInt(value);
+                case "duration" -> config.duration = Duration.parse(value);
+                case "warmup" -> config.warmup = Duration.parse(value);
+                case "users" -> config.users = Integer.parseInt(value);
+                case "tasksPerUser" -> config.tasksPerUser = Integer.parseInt(value);
+                case "maxInFlight" -> config.maxInFlight = Integer.parseInt(value);
+                case "report" -> config.report = value;
+                case "mix" -> {
+                    config.mix.replaceAll((operation, weight) -> 0);
+                    for (String entry : value.split(",")) {
+                        String[] parts = entry.split(":");
+                        config.mix.put(Operation.fromOptionName(parts[0].trim()), Integer.parseInt(parts[1].trim()));
+                    }
+                }
+                default -> throw new IllegalArgumentException("Unknown option: " + key);
+            }
+        }
+        if (config.rate <= 0 || config.mix.values().stream().mapToInt(Integer::intValue).sum() <= 0) {
+            throw new IllegalArgumentException("rate and at least one mix weight must be positive");
+        }
+        return config;
+    }
+}
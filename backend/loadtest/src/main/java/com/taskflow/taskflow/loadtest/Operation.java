@@ -0,0 +1,30 @@
+package com.taskflow.taskflow.loadtest;
+
+/**
+ * The workload's request types; each gets its own latency histogram.
+ */
+enum Operation {
+    LIST_TASKS("listTasks", "GET /api/projects/{id}/tasks"),
+    GET_PROJECT("getProject", "GET /api/projects/{id}"),
+    CREATE_TASK("createTask", "POST /api/projects/{id}/tasks"),
+    UPDATE_STATUS("updateStatus", "PATCH /api/tasks/{id}/status"),
+    ADD_COMMENT("addComment", "POST /api/tasks/{id}/comments"),
+    LOGIN("login", "POST /api/auth/login");
+
+    final String optionName;
+    final String endpoint;
+
+    Operation(String optionName, String endpoint) {
+        this.optionName = optionName;
+        this.endpoint = endpoint;
+    }
+
+    static Operation fromOptionName(String name) {
+        for (Operation operation : values()) {
+            if (operation.optionName.equals(name)) {
+                return operation;
+            }
+        }
+        throw new IllegalArgumentException("Unknown operation in mix: " + name);
+    }
+}
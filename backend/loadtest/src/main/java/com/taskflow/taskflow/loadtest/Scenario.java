@@ -0,0 +1,188 @@
+package com.taskflow.taskflow.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Registers the virtual users, seeds their projects, and builds one request per operation during the run.
+ */
+final class Scenario {
+
+    private static final String PASSWORD = "loadtest-password";
+    private static final Duration REQUEST_TIMEOUT = Duration.ofSeconds(30);
+    private static final String[] STATUSES = {"BACKLOG", "IN_PROGRESS", "DONE"};
+
+    private final LoadTestConfig config;
+    private final HttpClient client;
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final List<VirtualUser> users = new ArrayList<>();
+    private final AtomicLong renewals = new AtomicLong();
+
+    static final class VirtualUser {
+        final String email;
+        volatile String accessToken;
+        final AtomicBoolean renewing = new AtomicBoolean();
+        long projectId;
+        final List<Long> taskIds = new CopyOnWriteArrayList<>();
+
+        VirtualUser(String email) {
+            this.email = email;
+        }
+    }
+
+    /** A request plus what to do with a successful response (e.g. remember a created task id). */
+    record Call(Operation operation, HttpRequest request, VirtualUser user) {
+    }
+
+    Scenario(LoadTestConfig config, HttpClient client) {
+        this.config = config;
+        this.client = client;
+    }
+
+    /**
+     * Runs sequentially before the clock starts, so setup cost never shows up in the measured latencies.
+     */
+    void setUp() throws IOException, InterruptedException {
+        String runId = Long.toString(System.currentTimeMillis(), 36);
+        for (int i = 0; i < config.users; i++) {
+            VirtualUser user = new VirtualUser("loadtest-" + runId + "-" + i + "@taskflow.dev");
+            JsonNode auth = send(json("POST", "/api/auth/register", null,
+                    Map.of("email", user.email, "fullName", "Load Test " + i, "password", PASSWORD)), 201);
+            user.accessToken = auth.get("accessToken").asText();
+
+            JsonNode project = send(json("POST", "/api/projects", user,
+                    Map.of("name", "Load test project " + i, "description", "Created by the load generator")), 201);
+            user.projectId = project.get("id").asLong();
+
+            StringBuilder ndjson = new StringBuilder();
+            for (int t = 0; t < config.tasksPerUser; t++) {
+                ndjson.append("{\"title\":\"Seed task ").append(t).append("\",\"status\":\"")
+                        .append(STATUSES[t % STATUSES.length]).append("\"}\n");
+            }
+            if (config.tasksPerUser > 0) {
+                send(authorised(user, "/api/projects/" + user.projectId + "/tasks/import")
+                        .header("Content-Type", "application/x-ndjson")
+                        .POST(HttpRequest.BodyPublishers.ofString(ndjson.toString()))
+                        .build(), 200);
+            }
+            JsonNode page = send(authorised(user, "/api/projects/" + user.projectId + "/tasks?limit=200").GET().build(), 200);
+            page.get("items").forEach(task -> user.taskIds.add(task.get("id").asLong()));
+            users.add(user);
+        }
+    }
+
+    Call next(Operation operation) {
+        VirtualUser user = users.get(ThreadLocalRandom.current().nextInt(users.size()));
+        String project = "/api/projects/" + user.projectId;
+        HttpRequest request = switch (operation) {
+            case LIST_TASKS -> authorised(user, project + "/tasks?limit=50").GET().build();
+            case GET_PROJECT -> authorised(user, project).GET().build();
+            case CREATE_TASK -> json("POST", project + "/tasks", user,
+                    Map.of("title", "Load task " + ThreadLocalRandom.current().nextInt(), "status", "BACKLOG"));
+            case UPDATE_STATUS -> json("PATCH", "/api/tasks/" + randomTask(user) + "/status", user,
+                    Map.of("status", STATUSES[ThreadLocalRandom.current().nextInt(STATUSES.length)]));
+            case ADD_COMMENT -> json("POST", "/api/tasks/" + randomTask(user) + "/comments", user,
+                    Map.of("body", "Load comment " + ThreadLocalRandom.current().nextInt()));
+            case LOGIN -> json("POST", "/api/auth/login", null, Map.of("email", user.email, "password", PASSWORD));
+        };
+        return new Call(operation, request, user);
+    }
+
+    /**
+     * Keeps created tasks in the pool that status updates and comments draw from, and the newest access token from a
+     * measured login.
+     */
+    void onSuccess(Call call, byte[] body) {
+        if (call.operation() == Operation.CREATE_TASK || call.operation() == Operation.LOGIN) {
+            try {
+                JsonNode json = objectMapper.readTree(body);
+                if (call.operation() == Operation.CREATE_TASK) {
+                    call.user().taskIds.add(json.get("id").asLong());
+                } else {
+                    call.user().accessToken = json.get("accessToken").asText();
+                }
+            } catch (IOException ignored) {
+                // A malformed body was already counted by the status check; nothing to remember.
+            }
+        }
+    }
+
+    /**
+     * Access tokens outlive only the first minutes of a run, so a rejected token logs the user in again in the
+     * background; requests already sent with the old token still fail and are counted. One renewal per user is in
+     * flight at a time, and it is not part of the measured load.
+     * The backend answers an expired token with 403 (it has no authentication entry point), and virtual users only
+     * touch their own projects, so 401 and 403 both mean the token was rejected.
+     */
+    void onTokenRejected(Call call) {
+        VirtualUser user = call.user();
+        if (call.operation() == Operation.LOGIN || !user.renewing.compareAndSet(false, true)) {
+            return;
+        }
+        client.sendAsync(json("POST", "/api/auth/login", null, Map.of("email", user.email, "password", PASSWORD)),
+                        HttpResponse.BodyHandlers.ofByteArray())
+                .whenComplete((response, failure) -> {
+                    try {
+                        if (failure == null && response.statusCode() == 200) {
+                            user.accessToken = objectMapper.readTree(response.body()).get("accessToken").asText();
+                            renewals.incrementAndGet();
+                        }
+                    } catch (IOException ignored) {
+                        // Left on the old token; the next rejection tries again.
+                    } finally {
+                        user.renewing.set(false);
+                    }
+                });
+    }
+
+    long renewals() {
+        return renewals.get();
+    }
+
+    private long randomTask(VirtualUser user) {
+        List<Long> ids = user.taskIds;
+        return ids.isEmpty() ? 0 : ids.get(ThreadLocalRandom.current().nextInt(ids.size()));
+    }
+
+    private HttpRequest.Builder authorised(VirtualUser user, String path) {
+        HttpRequest.Builder builder = HttpRequest.newBuilder(URI.create(config.baseUrl + path)).timeout(REQUEST_TIMEOUT);
+        if (user != null) {
+            builder.header("Authorization", "Bearer " + user.accessToken);
+        }
+        return builder;
+    }
+
+    private HttpRequest json(String method, String path, VirtualUser user, Map<String, String> body) {
+        try {
+            return authorised(user, path)
+                    .header("Content-Type", "application/json")
+                    .method(method, HttpRequest.BodyPublishers.ofByteArray(objectMapper.writeValueAsBytes(body)))
+                    .build();
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private JsonNode send(HttpRequest request, int expectedStatus) throws IOException, InterruptedException {
+        HttpResponse<byte[]> response = client.send(request, HttpResponse.BodyHandlers.ofByteArray());
+        if (response.statusCode() != expectedStatus) {
+            throw new IllegalStateException("Setup call " + request.method() + " " + request.uri() + " returned "
+                    + response.statusCode() + ": " + new String(response.body()));
+        }
+        return objectMapper.readTree(response.body());
+    }
+}
@@ -0,0 +1,66 @@
+package com.taskflow.taskflow.comment;
+
+import com.taskflow.taskflow.project.ProjectVersionService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+
+/**
+ * Repairs the `comment_count` / `last_comment_at` summary on `tasks` wherever it disagrees with `task_comments`.
+ * Normal comment writes keep it exact; this covers rows written by other tools (such as the seed profile) and
+ * databases that predate the columns. Projects with repaired tasks get a new version, so cached reads revalidate.
+ */
+@Service
+public class CommentStatsService {
+
+    private static final Logger log = LoggerFactory.getLogger(CommentStatsService.class);
+
+    private static final String THREAD_SIZE = "(select count(*) from task_comments c where c.task_id = tasks.id)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ProjectVersionService versionService;
+    private final TransactionTemplate transactionTemplate;
+
+    public CommentStatsService(JdbcTemplate jdbcTemplate,
+                               ProjectVersionService versionService,
+                               PlatformTransactionManager transactionManager) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.versionService = versionService;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    /**
+     * One statement finds the projects with drifted tasks and one repairs them; each correlated subquery is an
+     * index-only range scan on `idx_task_comments_task_created`, and only drifted rows are written. Both run in one
+     * transaction, whose commit bumps those projects' versions.
+     */
+    @Scheduled(cron = "${app.comment-stats.reconcile-cron}")
+    public void reconcile() {
+        long started = System.nanoTime();
+        int repaired = transactionTemplate.execute(status -> {
+            List<Long> projectIds = jdbcTemplate.queryForList("select distinct project_id from tasks "
+                    + "where comment_count <> " + THREAD_SIZE, Long.class);
+            if (projectIds.isEmpty()) {
+                return 0;
+            }
+            projectIds.forEach(versionService::markChanged);
+            return jdbcTemplate.update("update tasks set comment_count = " + THREAD_SIZE + ", "
+                    + "last_comment_at = (select max(c.created_at) from task_comments c where c.task_id = tasks.id) "
+                    + "where comment_count <> " + THREAD_SIZE);
+        });
+        log.info("Reconciled comment counts ({} tasks repaired) in {} ms", repaired, (System.nanoTime() - started) / 1_000_000);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void reconcileOnStartup() {
+        reconcile();
+    }
+}
@@ -12,7 +12,10 @@ import java.time.Instant;
  * Records discussion on a task.
  */
 @Entity
-@Table(name = "task_comments")
+@Table(name = "task_comments", indexes = {
+        // Serves the keyset-paginated thread (ordered by created_at, id) and the per-task count/max used by reconciliation.
+        @Index(name = "idx_task_comments_task_created", columnList = "task_id, created_at, id")
+})
 @Getter
 @Setter
 @Builder
@@ -21,7 +24,8 @@ import java.time.Instant;
 public class TaskComment {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "task_comments_seq")
+    @SequenceGenerator(name = "task_comments_seq", sequenceName = "task_comments_seq", allocationSize = 50)
     private Long id;
 
     @NotBlank
@@ -1,11 +1,30 @@
 package com.taskflow.taskflow.comment;
 
-import com.taskflow.taskflow.task.TaskItem;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.time.Instant;
 import java.util.List;
 
+/**
+ * Threads are read in `(createdAt, id)` order along `idx_task_comments_task_created`, one keyset page at a time.
+ */
 public interface TaskCommentRepository extends JpaRepository<TaskComment, Long> {
-    List<TaskComment> findByTask(TaskItem task);
-}
 
+    @Query("select c from TaskComment c left join fetch c.author where c.task.id = :taskId order by c.createdAt, c.id")
+    List<TaskComment> findThreadStart(@Param("taskId") Long taskId, Limit limit);
+
+    @Query("select c from TaskComment c left join fetch c.author where c.task.id = :taskId "
+            + "and (c.createdAt > :createdAt or (c.createdAt = :createdAt and c.id > :id)) order by c.createdAt, c.id")
+    List<TaskComment> findThreadAfter(@Param("taskId") Long taskId,
+                                      @Param("createdAt") Instant createdAt,
+                                      @Param("id") Long id,
+                                      Limit limit);
+
+    @Modifying
+    @Query("delete from TaskComment c where c.task.id in (select t.id from TaskItem t where t.project.id = :projectId)")
+    int deleteByProjectId(@Param("projectId") Long projectId);
+}
@@ -0,0 +1,19 @@
+package com.taskflow.taskflow.comment.dto;
+
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+
+/**
+ * Query-string paging for a task's comment thread, which is always served oldest first.
+ */
+public record CommentListQuery(
+        String cursor,
+        @Min(1) @Max(200) Integer limit
+) {
+
+    public static final int DEFAULT_LIMIT = 50;
+
+    public CommentListQuery {
+        limit = limit == null ? DEFAULT_LIMIT : limit;
+    }
+}
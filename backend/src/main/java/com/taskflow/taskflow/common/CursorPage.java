@@ -0,0 +1,13 @@
+package com.taskflow.taskflow.common;
+
+import java.util.List;
+
+/**
+ * One slice of a keyset-paginated listing.
+ * `nextCursor` is opaque to clients and is null once the last page has been served.
+ */
+public record CursorPage<T>(
+        List<T> items,
+        String nextCursor
+) {
+}
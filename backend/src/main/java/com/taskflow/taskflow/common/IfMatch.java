@@ -0,0 +1,45 @@
+package com.taskflow.taskflow.common;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.server.ResponseStatusException;
+
+/**
+ * Entity tags for `@Version` columns: the tag of version 3 is `"3"`, so clients can also build it from a DTO's `version`.
+ *
+ * These are write preconditions and are separate from the read ETags `W/"p<project>-v<change>-<variant>"` on project and
+ * task listings (see `ProjectVersionService`). A read tag is weak, because compression changes the bytes, and it moves
+ * with any change in the project, so it is only good for `If-None-Match`. Writes take `If-Match: "<version>"` from the
+ * DTO's `version` or from the ETag of the previous write's response.
+ */
+public final class IfMatch {
+
+    private IfMatch() {
+    }
+
+    public static String etag(long version) {
+        return "\"" + version + "\"";
+    }
+
+    /**
+     * The version an `If-Match` header requires, or null when the header is absent or `*` (an unconditional write).
+     * Only a single strong tag can match; weak tags, lists and foreign tags fail the precondition.
+     */
+    public static Long expectedVersion(String header) {
+        if (header == null || header.isBlank() || header.trim().equals("*")) {
+            return null;
+        }
+        String tag = header.trim();
+        if (tag.startsWith("W/")) {
+            throw new ResponseStatusException(HttpStatus.PRECONDITION_FAILED,
+                    "If-Match takes the entity version tag (\"<version>\"), not a weak read ETag");
+        }
+        try {
+            if (tag.length() > 2 && tag.startsWith("\"") && tag.endsWith("\"")) {
+                return Long.parseLong(tag.substring(1, tag.length() - 1));
+            }
+        } catch (NumberFormatException notOurs) {
+            // Falls through to the failed precondition below.
+        }
+        throw new ResponseStatusException(HttpStatus.PRECONDITION_FAILED, "If-Match does not name a current version");
+    }
+}
@@ -0,0 +1,23 @@
+package com.taskflow.taskflow.common;
+
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.http.HttpHeaders;
+
+/**
+ * Helpers for reads whose bytes depend on content negotiation as well as on the URL.
+ */
+public final class Negotiation {
+
+    private Negotiation() {
+    }
+
+    /**
+     * ETag variant for a conditional GET: the query string selects the data and `Accept` selects its encoding
+     * (JSON, CBOR or Smile), so both must change the ETag.
+     */
+    public static String etagVariant(HttpServletRequest request) {
+        String query = request.getQueryString();
+        String accept = request.getHeader(HttpHeaders.ACCEPT);
+        return (query == null ? "" : query) + "|" + (accept == null ? "" : accept);
+    }
+}
@@ -0,0 +1,66 @@
+package com.taskflow.taskflow.common;
+
+import com.taskflow.taskflow.config.OptimisticLockingProperties;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.util.function.Supplier;
+
+/**
+ * Runs a versioned write in its own transaction and decides what a lost race means.
+ * A conditional write (the client sent `If-Match`) fails with 412 because the version it saw is gone; an unconditional
+ * one is re-run from a fresh read, up to `app.optimistic-locking.max-attempts` times, then fails with 409.
+ * Retries and conflicts are counted as `taskflow.writes.retries` / `taskflow.writes.conflicts` by entity and operation.
+ */
+@Component
+public class OptimisticWrites {
+
+    private final TransactionTemplate transactionTemplate;
+    private final MeterRegistry meterRegistry;
+    private final OptimisticLockingProperties properties;
+
+    public OptimisticWrites(PlatformTransactionManager transactionManager,
+                            MeterRegistry meterRegistry,
+                            OptimisticLockingProperties properties) {
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.meterRegistry = meterRegistry;
+        this.properties = properties;
+    }
+
+    /**
+     * `write` must throw {@link OptimisticLockingFailureException} when it finds the version changed; Hibernate's own
+     * version checks at flush arrive as the same exception.
+     */
+    public <T> T execute(String entity, String operation, boolean conditional, Supplier<T> write) {
+        for (int attempt = 1; ; attempt++) {
+            try {
+                return transactionTemplate.execute(status -> write.get());
+            } catch (OptimisticLockingFailureException conflict) {
+                if (conditional) {
+                    counter("taskflow.writes.conflicts", entity, operation).increment();
+                    throw new ResponseStatusException(HttpStatus.PRECONDITION_FAILED,
+                            "The " + entity + " has changed since it was read");
+                }
+                if (attempt >= properties.getMaxAttempts()) {
+                    counter("taskflow.writes.conflicts", entity, operation).increment();
+                    throw new ResponseStatusException(HttpStatus.CONFLICT,
+                            "The " + entity + " is being modified concurrently; try again");
+                }
+                counter("taskflow.writes.retries", entity, operation).increment();
+            }
+        }
+    }
+
+    private Counter counter(String name, String entity, String operation) {
+        return Counter.builder(name)
+                .tag("entity", entity)
+                .tag("operation", operation)
+                .register(meterRegistry);
+    }
+}
@@ -1,5 +1,6 @@
 package com.taskflow.taskflow.common;
 
+import com.taskflow.taskflow.security.AuthenticatedUser;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.core.userdetails.UserDetails;
@@ -26,5 +27,16 @@ public final class SecurityUtils {
         }
         return null;
     }
+
+    /**
+     * Database id of the current user, available when the request was authenticated with a JWT.
+     */
+    public static Long currentUserId() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication != null && authentication.getPrincipal() instanceof AuthenticatedUser user) {
+            return user.getId();
+        }
+        return null;
+    }
 }
 
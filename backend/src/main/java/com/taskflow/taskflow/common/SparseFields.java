@@ -0,0 +1,115 @@
+package com.taskflow.taskflow.common;
+
+import jakarta.persistence.Tuple;
+import jakarta.persistence.criteria.From;
+import jakarta.persistence.criteria.JoinType;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Selection;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Sparse fieldsets (`fields=id,title,...`): parses the parameter and turns the chosen fields into criteria tuple
+ * selections, so a lightweight view reads only the columns (and joins) it returns.
+ */
+public final class SparseFields {
+
+    private SparseFields() {
+    }
+
+    /**
+     * A selectable field of one resource.
+     */
+    public interface Field {
+
+        /**
+         * Property name in the JSON representation, also used as the tuple alias.
+         */
+        String jsonName();
+
+        /**
+         * Entity attribute, `association.attribute` for a value read through a left join,
+         * or null for a field that is assembled separately rather than selected.
+         */
+        String attribute();
+    }
+
+    /**
+     * A missing or blank parameter selects every field; an unknown name is rejected rather than silently ignored.
+     */
+    public static <E extends Enum<E> & Field> Set<E> parse(String fields, Class<E> type) {
+        if (fields == null || fields.isBlank()) {
+            return EnumSet.allOf(type);
+        }
+        Map<String, E> byName = new HashMap<>();
+        for (E field : type.getEnumConstants()) {
+            byName.put(field.jsonName(), field);
+        }
+        Set<E> selected = EnumSet.noneOf(type);
+        for (String name : fields.split(",")) {
+            String trimmed = name.trim();
+            if (trimmed.isEmpty()) {
+                continue;
+            }
+            E field = byName.get(trimmed);
+            if (field == null) {
+                throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Unknown field: " + trimmed);
+            }
+            selected.add(field);
+        }
+        return selected;
+    }
+
+    /**
+     * One aliased selection per field; each association is left-joined at most once, and only if a field needs it.
+     */
+    public static List<Selection<?>> selections(Root<?> root, Collection<? extends Field> fields) {
+        Map<String, From<?, ?>> joins = new HashMap<>();
+        List<Selection<?>> selections = new ArrayList<>();
+        for (Field field : fields) {
+            String attribute = field.attribute();
+            if (attribute == null) {
+                continue;
+            }
+            int dot = attribute.indexOf('.');
+            Selection<?> selection = dot < 0
+                    ? root.get(attribute)
+                    : joins.computeIfAbsent(attribute.substring(0, dot), name -> root.join(name, JoinType.LEFT))
+                            .get(attribute.substring(dot + 1));
+            selections.add(selection.alias(field.jsonName()));
+        }
+        return selections;
+    }
+
+    /**
+     * Reads a tuple produced by {@link #selections} back into a JSON object, in field declaration order.
+     */
+    public static Map<String, Object> toMap(Tuple tuple, Collection<? extends Field> fields) {
+        Map<String, Object> row = new LinkedHashMap<>();
+        for (Field field : fields) {
+            if (field.attribute() != null) {
+                row.put(field.jsonName(), tuple.get(field.jsonName()));
+            }
+        }
+        return row;
+    }
+
+    /**
+     * Drops properties that were only selected internally (for example to build a cursor).
+     */
+    public static void retain(Collection<Map<String, Object>> rows, Collection<? extends Field> fields) {
+        Set<String> names = new HashSet<>();
+        fields.forEach(field -> names.add(field.jsonName()));
+        rows.forEach(row -> row.keySet().retainAll(names));
+    }
+}
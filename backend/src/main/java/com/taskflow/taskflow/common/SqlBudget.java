@@ -0,0 +1,73 @@
+package com.taskflow.taskflow.common;
+
+import com.taskflow.taskflow.config.SqlBudgetProperties;
+import jakarta.servlet.http.HttpServletRequest;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.util.Locale;
+import java.util.function.BiConsumer;
+
+/**
+ * Compares the statements counted for the current request with its endpoint's budget (`app.sql-budget.*`).
+ * Endpoints are keyed by handler, e.g. `TaskController.list`; unlisted handlers get the default budget.
+ */
+@Component
+public class SqlBudget {
+
+    public static final String STATEMENTS_HEADER = "X-Sql-Statements";
+    public static final String TIME_HEADER = "X-Sql-Time-Ms";
+
+    private static final Logger log = LoggerFactory.getLogger(SqlBudget.class);
+
+    private static final String CHECKED = SqlBudget.class.getName() + ".checked";
+
+    private final SqlBudgetProperties properties;
+
+    public SqlBudget(SqlBudgetProperties properties) {
+        this.properties = properties;
+    }
+
+    boolean isEnabled() {
+        return properties.isEnabled();
+    }
+
+    /**
+     * Checks once per request, at whichever comes first: the response body being written or the request finishing.
+     * Logs an overrun, and in strict mode also throws so the request fails.
+     */
+    void enforce(HttpServletRequest request) {
+        if (request.getAttribute(CHECKED) != null) {
+            return;
+        }
+        request.setAttribute(CHECKED, Boolean.TRUE);
+        if (!(request.getAttribute(HandlerMapping.BEST_MATCHING_HANDLER_ATTRIBUTE) instanceof HandlerMethod handler)) {
+            return;
+        }
+        String endpoint = handler.getBeanType().getSimpleName() + "." + handler.getMethod().getName();
+        int budget = properties.getEndpoints().getOrDefault(endpoint, properties.getDefaultBudget());
+        long statements = SqlStatementCounter.count();
+        if (statements <= budget) {
+            return;
+        }
+        String message = String.format(Locale.ROOT, "%s issued %d SQL statements (budget %d, %.1f ms in JDBC) for %s %s",
+                endpoint, statements, budget, SqlStatementCounter.jdbcNanos() / 1e6, request.getMethod(), request.getRequestURI());
+        log.warn(message);
+        if (properties.isStrict()) {
+            throw new SqlBudgetExceededException(message);
+        }
+    }
+
+    /**
+     * Reports the count and JDBC time so far, when `app.sql-budget.response-headers` is on.
+     */
+    void writeHeaders(BiConsumer<String, String> setHeader) {
+        if (properties.isResponseHeaders()) {
+            setHeader.accept(STATEMENTS_HEADER, Long.toString(SqlStatementCounter.count()));
+            setHeader.accept(TIME_HEADER, String.format(Locale.ROOT, "%.2f", SqlStatementCounter.jdbcNanos() / 1e6));
+        }
+    }
+}
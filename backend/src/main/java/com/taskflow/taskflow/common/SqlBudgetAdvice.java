@@ -0,0 +1,43 @@
+package com.taskflow.taskflow.common;
+
+import org.springframework.core.MethodParameter;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.http.server.ServletServerHttpRequest;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyAdvice;
+
+/**
+ * Checks the SQL budget and adds the debug headers while they can still be sent, i.e. before the body is written.
+ * In strict mode the thrown {@link SqlBudgetExceededException} replaces the body with an error response.
+ */
+@RestControllerAdvice
+public class SqlBudgetAdvice implements ResponseBodyAdvice<Object> {
+
+    private final SqlBudget sqlBudget;
+
+    public SqlBudgetAdvice(SqlBudget sqlBudget) {
+        this.sqlBudget = sqlBudget;
+    }
+
+    @Override
+    public boolean supports(MethodParameter returnType, Class<? extends HttpMessageConverter<?>> converterType) {
+        return sqlBudget.isEnabled();
+    }
+
+    @Override
+    public Object beforeBodyWrite(Object body,
+                                  MethodParameter returnType,
+                                  MediaType selectedContentType,
+                                  Class<? extends HttpMessageConverter<?>> selectedConverterType,
+                                  ServerHttpRequest request,
+                                  ServerHttpResponse response) {
+        if (request instanceof ServletServerHttpRequest servletRequest) {
+            sqlBudget.enforce(servletRequest.getServletRequest());
+        }
+        sqlBudget.writeHeaders(response.getHeaders()::set);
+        return body;
+    }
+}
@@ -0,0 +1,11 @@
+package com.taskflow.taskflow.common;
+
+/**
+ * Raised in strict mode when a request issues more SQL statements than its endpoint's budget.
+ */
+public class SqlBudgetExceededException extends RuntimeException {
+
+    public SqlBudgetExceededException(String message) {
+        super(message);
+    }
+}
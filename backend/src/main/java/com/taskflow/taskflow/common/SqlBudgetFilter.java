@@ -0,0 +1,61 @@
+package com.taskflow.taskflow.common;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Starts the SQL statement count for each request, ahead of the security filters so token authentication is included.
+ * Responses with a body are checked in {@link SqlBudgetAdvice} just before the body is written; this filter covers the
+ * rest (e.g. `204 No Content`) once the handler returns. Work finished on another thread (SSE, streamed exports) is not
+ * counted.
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 10)
+public class SqlBudgetFilter extends OncePerRequestFilter {
+
+    private final SqlBudget sqlBudget;
+
+    public SqlBudgetFilter(SqlBudget sqlBudget) {
+        this.sqlBudget = sqlBudget;
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !sqlBudget.isEnabled();
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request,
+                                    HttpServletResponse response,
+                                    FilterChain filterChain) throws ServletException, IOException {
+        SqlStatementCounter.reset();
+        filterChain.doFilter(request, response);
+        if (request.isAsyncStarted()) {
+            return;
+        }
+        try {
+            sqlBudget.enforce(request);
+        } catch (SqlBudgetExceededException ex) {
+            if (!response.isCommitted()) {
+                response.resetBuffer();
+                response.setStatus(HttpServletResponse.SC_INTERNAL_SERVER_ERROR);
+                response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+                response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+                response.getWriter().write("{\"message\":\"" + ex.getMessage().replace("\"", "'") + "\"}");
+            }
+        }
+        if (!response.isCommitted()) {
+            sqlBudget.writeHeaders(response::setHeader);
+        }
+    }
+}
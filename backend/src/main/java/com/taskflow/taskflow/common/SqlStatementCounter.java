@@ -0,0 +1,43 @@
+package com.taskflow.taskflow.common;
+
+/**
+ * Counts the SQL statements sent to the database on the current thread, and the time spent preparing and executing them.
+ * Fed by {@link StatementCountingDataSource}, which wraps the application's data source, so statements issued through
+ * Hibernate and through `JdbcTemplate` are both included; state is kept in a static thread-local.
+ *
+ * Typical use when checking a fetch plan: `reset()`, call the endpoint or service, then compare `count()`
+ * against the expected number of statements. {@link SqlBudgetFilter} does this for every HTTP request.
+ * A JDBC batch is one statement here, matching one round trip.
+ */
+public final class SqlStatementCounter {
+
+    // [0] statements, [1] JDBC nanoseconds
+    private static final ThreadLocal<long[]> COUNT = ThreadLocal.withInitial(() -> new long[2]);
+
+    private SqlStatementCounter() {
+    }
+
+    public static void reset() {
+        long[] counters = COUNT.get();
+        counters[0] = 0;
+        counters[1] = 0;
+    }
+
+    public static long count() {
+        return COUNT.get()[0];
+    }
+
+    public static long jdbcNanos() {
+        return COUNT.get()[1];
+    }
+
+    static void addStatement(long nanos) {
+        long[] counters = COUNT.get();
+        counters[0]++;
+        counters[1] += nanos;
+    }
+
+    static void addJdbcNanos(long nanos) {
+        COUNT.get()[1] += nanos;
+    }
+}
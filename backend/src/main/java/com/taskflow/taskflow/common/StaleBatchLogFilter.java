@@ -0,0 +1,27 @@
+package com.taskflow.taskflow.common;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.turbo.TurboFilter;
+import ch.qos.logback.core.spi.FilterReply;
+import org.slf4j.Marker;
+
+/**
+ * Drops the ERROR line Hibernate writes for a versioned batch UPDATE that matched no row (a lost optimistic-lock race)
+ * before it rethrows the failure. {@link OptimisticWrites} retries or maps that failure and counts it as
+ * `taskflow.writes.*`, so the line is noise; every other batch failure is still logged.
+ * Hibernate formats the exception into the message, so it is matched by class name. Registered in `logback-spring.xml`.
+ */
+public class StaleBatchLogFilter extends TurboFilter {
+
+    static final String BATCH_LOGGER = "org.hibernate.orm.jdbc.batch";
+    static final String STALE_STATE = "org.hibernate.StaleStateException";
+
+    @Override
+    public FilterReply decide(Marker marker, Logger logger, Level level, String format, Object[] params, Throwable t) {
+        if (level == Level.ERROR && format != null && BATCH_LOGGER.equals(logger.getName()) && format.contains(STALE_STATE)) {
+            return FilterReply.DENY;
+        }
+        return FilterReply.NEUTRAL;
+    }
+}
@@ -7,7 +7,9 @@ import org.springframework.context.annotation.Configuration;
  * Tells Spring to read our custom configuration classes.
  */
 @Configuration
-@EnableConfigurationProperties({JwtProperties.class})
+@EnableConfigurationProperties({JwtProperties.class, PrincipalCacheProperties.class, FeedProperties.class,
+        PasswordHashingProperties.class, SeedProperties.class,
+        SqlBudgetProperties.class, SecondLevelCacheProperties.class, OptimisticLockingProperties.class})
 public class ApplicationConfig {
 }
 
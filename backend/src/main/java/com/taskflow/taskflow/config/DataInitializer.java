@@ -11,6 +11,8 @@ import com.taskflow.taskflow.user.UserRole;
 import org.springframework.boot.CommandLineRunner;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
 import org.springframework.security.crypto.password.PasswordEncoder;
 
 /**
@@ -19,7 +21,9 @@ import org.springframework.security.crypto.password.PasswordEncoder;
 @Configuration
 public class DataInitializer {
 
+    // Runs before the `seed` profile's bulk seeder, whose rows would otherwise make `count() > 0` skip these accounts.
     @Bean
+    @Order(Ordered.HIGHEST_PRECEDENCE)
     CommandLineRunner loadSampleData(UserRepository userRepository,
                                      ProjectRepository projectRepository,
                                      TaskRepository taskRepository,
@@ -0,0 +1,31 @@
+package com.taskflow.taskflow.config;
+
+import com.taskflow.taskflow.common.StatementCountingDataSource;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.sql.DataSource;
+
+/**
+ * Wraps the pooled data source so every statement, from Hibernate or `JdbcTemplate`, is counted against the SQL budgets.
+ */
+@Configuration
+public class DataSourceConfig {
+
+    /**
+     * Static so the post-processor is registered before the data source is created.
+     */
+    @Bean
+    public static BeanPostProcessor statementCountingDataSourcePostProcessor() {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (bean instanceof DataSource dataSource && !(bean instanceof StatementCountingDataSource)) {
+                    return new StatementCountingDataSource(dataSource);
+                }
+                return bean;
+            }
+        };
+    }
+}
@@ -13,6 +13,7 @@ public class JwtProperties {
     private String secret;
     private Duration accessTokenTtl;
     private Duration refreshTokenTtl;
+    private long verifiedTokenCacheSize = 10_000;
 
     public String getIssuer() {
         return issuer;
@@ -45,5 +46,13 @@ public class JwtProperties {
     public void setRefreshTokenTtl(Duration refreshTokenTtl) {
         this.refreshTokenTtl = refreshTokenTtl;
     }
+
+    public long getVerifiedTokenCacheSize() {
+        return verifiedTokenCacheSize;
+    }
+
+    public void setVerifiedTokenCacheSize(long verifiedTokenCacheSize) {
+        this.verifiedTokenCacheSize = verifiedTokenCacheSize;
+    }
 }
 
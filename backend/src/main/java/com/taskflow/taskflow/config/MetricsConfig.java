@@ -0,0 +1,23 @@
+package com.taskflow.taskflow.config;
+
+import io.micrometer.core.aop.TimedAspect;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Turns `@Timed` service and controller methods into timers.
+ * Each operation has its own meter name (`taskflow.tasks.create`, ...), so histograms, percentiles and SLOs can be set per
+ * operation, or per service by prefix, with `management.metrics.distribution.*`.
+ */
+@Configuration
+public class MetricsConfig {
+
+    /**
+     * Meters are tagged with `class`, `method` and `exception`, so failures are counted separately from successes.
+     */
+    @Bean
+    public TimedAspect timedAspect(MeterRegistry meterRegistry) {
+        return new TimedAspect(meterRegistry);
+    }
+}
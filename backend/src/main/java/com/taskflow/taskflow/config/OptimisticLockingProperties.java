@@ -0,0 +1,19 @@
+package com.taskflow.taskflow.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Binds `app.optimistic-locking.*`, which bounds how often an unconditional write is retried after losing a race.
+ */
+@ConfigurationProperties(prefix = "app.optimistic-locking")
+public class OptimisticLockingProperties {
+    private int maxAttempts = 3;
+
+    public int getMaxAttempts() {
+        return maxAttempts;
+    }
+
+    public void setMaxAttempts(int maxAttempts) {
+        this.maxAttempts = maxAttempts;
+    }
+}
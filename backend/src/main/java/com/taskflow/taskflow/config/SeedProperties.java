@@ -0,0 +1,111 @@
+package com.taskflow.taskflow.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Instant;
+
+/**
+ * Binds `app.seed.*`, the size and shape of the synthetic dataset written by the `seed` profile.
+ */
+@ConfigurationProperties(prefix = "app.seed")
+public class SeedProperties {
+    private long seed = 42;
+    private int users = 500;
+    private int projects = 1_000;
+    private int tasks = 100_000;
+    private int comments = 300_000;
+    private double projectSkew = 1.1;
+    private double ownerSkew = 1.0;
+    private double commentSkew = 0.8;
+    private int threads = 4;
+    private int batchSize = 1_000;
+    private Instant anchor = Instant.parse("2024-06-01T00:00:00Z");
+
+    public long getSeed() {
+        return seed;
+    }
+
+    public void setSeed(long seed) {
+        this.seed = seed;
+    }
+
+    public int getUsers() {
+        return users;
+    }
+
+    public void setUsers(int users) {
+        this.users = users;
+    }
+
+    public int getProjects() {
+        return projects;
+    }
+
+    public void setProjects(int projects) {
+        this.projects = projects;
+    }
+
+    public int getTasks() {
+        return tasks;
+    }
+
+    public void setTasks(int tasks) {
+        this.tasks = tasks;
+    }
+
+    public int getComments() {
+        return comments;
+    }
+
+    public void setComments(int comments) {
+        this.comments = comments;
+    }
+
+    public double getProjectSkew() {
+        return projectSkew;
+    }
+
+    public void setProjectSkew(double projectSkew) {
+        this.projectSkew = projectSkew;
+    }
+
+    public double getOwnerSkew() {
+        return ownerSkew;
+    }
+
+    public void setOwnerSkew(double ownerSkew) {
+        this.ownerSkew = ownerSkew;
+    }
+
+    public double getCommentSkew() {
+        return commentSkew;
+    }
+
+    public void setCommentSkew(double commentSkew) {
+        this.commentSkew = commentSkew;
+    }
+
+    public int getThreads() {
+        return threads;
+    }
+
+    public void setThreads(int threads) {
+        this.threads = threads;
+    }
+
+    public int getBatchSize() {
+        return batchSize;
+    }
+
+    public void setBatchSize(int batchSize) {
+        this.batchSize = batchSize;
+    }
+
+    public Instant getAnchor() {
+        return anchor;
+    }
+
+    public void setAnchor(Instant anchor) {
+        this.anchor = anchor;
+    }
+}
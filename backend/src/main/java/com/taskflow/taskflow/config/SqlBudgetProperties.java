@@ -0,0 +1,61 @@
+package com.taskflow.taskflow.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Binds `app.sql-budget.*`, the per-endpoint limits on SQL statements checked by `SqlBudgetFilter`.
+ */
+@ConfigurationProperties(prefix = "app.sql-budget")
+public class SqlBudgetProperties {
+    private boolean enabled = true;
+    private boolean responseHeaders = false;
+    private boolean strict = false;
+    private int defaultBudget = 10;
+    /**
+     * Statement budgets keyed by handler, e.g. `TaskController.list`.
+     */
+    private Map<String, Integer> endpoints = new LinkedHashMap<>();
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public boolean isResponseHeaders() {
+        return responseHeaders;
+    }
+
+    public void setResponseHeaders(boolean responseHeaders) {
+        this.responseHeaders = responseHeaders;
+    }
+
+    public boolean isStrict() {
+        return strict;
+    }
+
+    public void setStrict(boolean strict) {
+        this.strict = strict;
+    }
+
+    public int getDefaultBudget() {
+        return defaultBudget;
+    }
+
+    public void setDefaultBudget(int defaultBudget) {
+        this.defaultBudget = defaultBudget;
+    }
+
+    public Map<String, Integer> getEndpoints() {
+        return endpoints;
+    }
+
+    public void setEndpoints(Map<String, Integer> endpoints) {
+        this.endpoints = endpoints;
+    }
+}
@@ -0,0 +1,30 @@
+package com.taskflow.taskflow.config;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+import org.springframework.context.event.EventListener;
+
+/**
+ * Guards the `virtual-threads` profile: Spring Boot silently keeps platform threads below Java 21, which would make
+ * benchmark runs of this mode misleading, so say so loudly.
+ */
+@Configuration
+@Profile("virtual-threads")
+public class VirtualThreadsConfig {
+
+    private static final Logger log = LoggerFactory.getLogger(VirtualThreadsConfig.class);
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void checkRuntime() {
+        int feature = Runtime.version().feature();
+        if (feature < 21) {
+            log.warn("Profile 'virtual-threads' is active but the runtime is Java {}; requests still run on platform threads. "
+                    + "Build with -P java21 and run on Java 21+.", feature);
+        } else {
+            log.info("Serving requests on virtual threads (Java {})", feature);
+        }
+    }
+}
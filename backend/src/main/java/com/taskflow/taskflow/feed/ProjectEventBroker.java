@@ -0,0 +1,268 @@
+package com.taskflow.taskflow.feed;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.taskflow.taskflow.config.FeedProperties;
+import com.taskflow.taskflow.project.ProjectDeletedEvent;
+import com.taskflow.taskflow.task.TaskChangedEvent;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
+import jakarta.annotation.PreDestroy;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter.DataWithMediaType;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Fans committed task changes out to SSE subscribers of the affected project.
+ * Publishers only enqueue: every subscriber has a bounded buffer drained on a small dedicated sender pool, and a
+ * subscriber whose buffer overflows, or whose current write has been blocked longer than `app.feed.send-timeout`, is
+ * disconnected (it can reconnect and re-read) instead of slowing the writer, growing memory or pinning senders.
+ */
+@Component
+public class ProjectEventBroker {
+
+    private final Map<Long, Set<Subscriber>> subscribersByProject = new ConcurrentHashMap<>();
+    private final AtomicLong eventSequence = new AtomicLong();
+    private final ObjectMapper objectMapper;
+    private final ThreadPoolExecutor senders;
+    private final FeedProperties properties;
+    private final Counter evictions;
+
+    public ProjectEventBroker(ObjectMapper objectMapper, FeedProperties properties, MeterRegistry meterRegistry) {
+        this.objectMapper = objectMapper;
+        this.properties = properties;
+        AtomicInteger threadNumber = new AtomicInteger();
+        // At most one drain per subscriber is queued, so the queue bounds subscribers waiting for a sender.
+        this.senders = new ThreadPoolExecutor(properties.getSenderThreads(), properties.getSenderThreads(),
+                0, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(properties.getSenderQueueCapacity()),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "feed-sender-" + threadNumber.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.AbortPolicy());
+        this.evictions = Counter.builder("feed.subscribers.evicted")
+                .description("Subscribers disconnected because their buffer overflowed, a write stalled or failed, "
+                        + "or no sender could take them")
+                .register(meterRegistry);
+        Gauge.builder("feed.subscribers", subscribersByProject, map -> map.values().stream().mapToInt(Set::size).sum())
+                .register(meterRegistry);
+        new ExecutorServiceMetrics(senders, "feedSenders", Tags.empty()).bindTo(meterRegistry);
+    }
+
+    private final class Subscriber {
+        final Long projectId;
+        final SseEmitter emitter;
+        final BlockingQueue<Set<DataWithMediaType>> buffer = new ArrayBlockingQueue<>(properties.getBufferSize());
+        final AtomicBoolean draining = new AtomicBoolean();
+        final AtomicBoolean completed = new AtomicBoolean();
+        volatile boolean closed;
+        /** Set once the last event is buffered; the stream is completed after it has been sent. */
+        volatile boolean finishing;
+        /** When the write in progress started, or 0 between writes; checked against the send timeout. */
+        volatile long sendStartedNanos;
+
+        Subscriber(Long projectId, SseEmitter emitter) {
+            this.projectId = projectId;
+            this.emitter = emitter;
+        }
+
+        void offer(Set<DataWithMediaType> event) {
+            if (closed || finishing) {
+                return;
+            }
+            if (!buffer.offer(event)) {
+                evict(this);
+                return;
+            }
+            scheduleDrain();
+        }
+
+        /**
+         * Completes the stream once everything already buffered has been sent.
+         */
+        void finish() {
+            finishing = true;
+            scheduleDrain();
+        }
+
+        void scheduleDrain() {
+            if (!draining.compareAndSet(false, true)) {
+                return;
+            }
+            try {
+                senders.execute(this::drain);
+            } catch (RejectedExecutionException saturated) {
+                // No drain is running (the flag was ours), so completing here cannot wait behind a blocked write.
+                draining.set(false);
+                if (remove(this)) {
+                    evictions.increment();
+                }
+                completeQuietly();
+            }
+        }
+
+        boolean stalled(long now, long timeoutNanos) {
+            long started = sendStartedNanos;
+            return started != 0 && now - started > timeoutNanos;
+        }
+
+        private void drain() {
+            try {
+                Set<DataWithMediaType> event;
+                while (!closed && (event = buffer.poll()) != null) {
+                    sendStartedNanos = System.nanoTime();
+                    emitter.send(event);
+                    sendStartedNanos = 0;
+                }
+                if (finishing && !closed) {
+                    closed = true;
+                }
+            } catch (IOException | IllegalStateException clientGone) {
+                evict(this);
+            } finally {
+                sendStartedNanos = 0;
+                draining.set(false);
+            }
+            // Only the drain holding the emitter completes it, so completion never queues behind a blocked write.
+            if (closed) {
+                completeQuietly();
+            } else if (!buffer.isEmpty()) {
+                // An event enqueued after the last poll but before the flag was cleared still needs a drain.
+                scheduleDrain();
+            }
+        }
+
+        private void completeQuietly() {
+            if (completed.compareAndSet(false, true)) {
+                try {
+                    emitter.complete();
+                } catch (IllegalStateException alreadyDone) {
+                    // The container finished the request first (timeout or client disconnect).
+                }
+            }
+        }
+    }
+
+    /**
+     * Registers a new subscriber; the caller must already have checked access to the project.
+     */
+    public SseEmitter subscribe(Long projectId) {
+        SseEmitter emitter = new SseEmitter(properties.getEmitterTimeout().toMillis());
+        Subscriber subscriber = new Subscriber(projectId, emitter);
+        emitter.onCompletion(() -> remove(subscriber));
+        emitter.onTimeout(() -> remove(subscriber));
+        emitter.onError(error -> remove(subscriber));
+        subscribersByProject.compute(projectId, (id, subscribers) -> {
+            Set<Subscriber> target = subscribers == null ? ConcurrentHashMap.newKeySet() : subscribers;
+            target.add(subscriber);
+            return target;
+        });
+        // Flushes the response headers right away so clients see the stream open before the first change.
+        subscriber.offer(SseEmitter.event().comment("subscribed").build());
+        return emitter;
+    }
+
+    @TransactionalEventListener
+    public void onTaskChanged(TaskChangedEvent event) {
+        Set<Subscriber> subscribers = subscribersByProject.get(event.projectId());
+        if (subscribers == null || subscribers.isEmpty()) {
+            return;
+        }
+        ProjectFeedEvent payload = new ProjectFeedEvent(event.projectId(), event.taskId(), event.task(), event.comment());
+        // Serialised once per change, not once per subscriber.
+        publish(subscribers, event.kind().name(), payload);
+    }
+
+    @TransactionalEventListener
+    public void onProjectDeleted(ProjectDeletedEvent event) {
+        Set<Subscriber> subscribers = subscribersByProject.remove(event.projectId());
+        if (subscribers == null) {
+            return;
+        }
+        // Buffered behind any pending changes, and sent before the streams are completed.
+        publish(subscribers, "PROJECT_DELETED", new ProjectFeedEvent(event.projectId(), null, null, null));
+        subscribers.forEach(Subscriber::finish);
+    }
+
+    /**
+     * Comment lines keep idle connections open through proxies and reveal dead clients on the next write.
+     * The same pass evicts subscribers whose current write has been blocked longer than the send timeout; the sender
+     * running it is released when the container's write timeout fails the write.
+     */
+    @Scheduled(fixedRateString = "${app.feed.heartbeat-interval}")
+    public void heartbeat() {
+        Set<DataWithMediaType> ping = SseEmitter.event().comment("ping").build();
+        long now = System.nanoTime();
+        long timeoutNanos = properties.getSendTimeout().toNanos();
+        subscribersByProject.values().forEach(subscribers -> subscribers.forEach(subscriber -> {
+            if (subscriber.stalled(now, timeoutNanos)) {
+                evict(subscriber);
+            } else {
+                subscriber.offer(ping);
+            }
+        }));
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        senders.shutdownNow();
+    }
+
+    private void publish(Set<Subscriber> subscribers, String name, ProjectFeedEvent payload) {
+        String json;
+        try {
+            json = objectMapper.writeValueAsString(payload);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Could not serialise feed event", e);
+        }
+        Set<DataWithMediaType> event = SseEmitter.event()
+                .id(Long.toString(eventSequence.incrementAndGet()))
+                .name(name)
+                .data(json, MediaType.APPLICATION_JSON)
+                .build();
+        subscribers.forEach(subscriber -> subscriber.offer(event));
+    }
+
+    /**
+     * Drops the subscriber at once; the emitter is completed by its drain, after any write in progress returns.
+     */
+    private void evict(Subscriber subscriber) {
+        if (remove(subscriber)) {
+            evictions.increment();
+        }
+        subscriber.buffer.clear();
+        subscriber.scheduleDrain();
+    }
+
+    private boolean remove(Subscriber subscriber) {
+        subscriber.closed = true;
+        AtomicBoolean removed = new AtomicBoolean();
+        // Atomic per project so a concurrent subscribe never lands in a set that is being dropped.
+        subscribersByProject.computeIfPresent(subscriber.projectId, (id, subscribers) -> {
+            removed.set(subscribers.remove(subscriber));
+            return subscribers.isEmpty() ? null : subscribers;
+        });
+        return removed.get();
+    }
+}
@@ -0,0 +1,36 @@
+package com.taskflow.taskflow.feed;
+
+import com.taskflow.taskflow.project.ProjectAccessGuard;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+/**
+ * Server-Sent Events stream of task and comment changes under `/api/projects/{projectId}/events`.
+ */
+@RestController
+@RequestMapping("/api/projects")
+public class ProjectFeedController {
+
+    private final ProjectEventBroker eventBroker;
+    private final ProjectAccessGuard accessGuard;
+
+    public ProjectFeedController(ProjectEventBroker eventBroker, ProjectAccessGuard accessGuard) {
+        this.eventBroker = eventBroker;
+        this.accessGuard = accessGuard;
+    }
+
+    /**
+     * Authenticates and checks access once, then streams `TASK_CREATED`, `TASK_UPDATED`, `TASK_DELETED`,
+     * `COMMENT_ADDED` and `PROJECT_DELETED` events until the client disconnects or falls too far behind.
+     * Browsers' `EventSource` cannot send headers, so this endpoint also accepts `?access_token=`.
+     */
+    @GetMapping(value = "/{projectId}/events", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter events(@PathVariable("projectId") Long projectId) {
+        accessGuard.requireProject(projectId);
+        return eventBroker.subscribe(projectId);
+    }
+}
@@ -0,0 +1,15 @@
+package com.taskflow.taskflow.feed;
+
+import com.taskflow.taskflow.comment.dto.TaskCommentDto;
+import com.taskflow.taskflow.task.dto.TaskDto;
+
+/**
+ * JSON payload of one feed event; `task` or `comment` is set depending on the event name.
+ */
+record ProjectFeedEvent(
+        Long projectId,
+        Long taskId,
+        TaskDto task,
+        TaskCommentDto comment
+) {
+}
@@ -5,6 +5,9 @@ import com.taskflow.taskflow.user.UserAccount;
 import jakarta.persistence.*;
 import jakarta.validation.constraints.NotBlank;
 import lombok.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.ColumnDefault;
 
 import java.time.Instant;
 import java.util.ArrayList;
@@ -14,7 +17,10 @@ import java.util.List;
  * Represents a bundle of tasks owned by a team.
  */
 @Entity
-@Table(name = "projects")
+@Table(name = "projects", indexes = @Index(name = "idx_projects_owner", columnList = "owner_id"))
+// Only the project row (name, description, owner id) is cached; the tasks collection is always queried.
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "projects")
 @Getter
 @Setter
 @Builder
@@ -23,7 +29,8 @@ import java.util.List;
 public class Project {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "projects_seq")
+    @SequenceGenerator(name = "projects_seq", sequenceName = "projects_seq", allocationSize = 50)
     private Long id;
 
     @NotBlank
@@ -42,5 +49,13 @@ public class Project {
 
     @Builder.Default
     private Instant createdAt = Instant.now();
+
+    /**
+     * Optimistic-lock version of the project row itself (not its tasks), checked against `If-Match` on updates.
+     */
+    @Version
+    @Column(nullable = false)
+    @ColumnDefault("0")
+    private long version;
 }
 
@@ -0,0 +1,95 @@
+package com.taskflow.taskflow.project;
+
+import com.taskflow.taskflow.common.SecurityUtils;
+import com.taskflow.taskflow.task.TaskRepository;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Answers "may the current user touch this project/task?" without loading the owner: projects come from the
+ * second-level cache by id, tasks need one indexed query on owner id.
+ * Grants are memoised on the current HTTP request, so repeated checks within a request are free.
+ */
+@Component
+public class ProjectAccessGuard {
+
+    private static final String GRANTS_ATTRIBUTE = ProjectAccessGuard.class.getName() + ".grants";
+
+    private final ProjectRepository projectRepository;
+    private final TaskRepository taskRepository;
+
+    public ProjectAccessGuard(ProjectRepository projectRepository, TaskRepository taskRepository) {
+        this.projectRepository = projectRepository;
+        this.taskRepository = taskRepository;
+    }
+
+    /**
+     * Throws the same not-found error for missing and foreign projects so ids of other users' projects don't leak.
+     */
+    public void requireProject(Long projectId) {
+        Map<String, Long> grants = grants();
+        if (grants.containsKey("project:" + projectId)) {
+            return;
+        }
+        Long userId = SecurityUtils.currentUserId();
+        // The owner is a lazy reference, so reading its id does not load the user.
+        boolean owned = userId != null && projectRepository.findById(projectId)
+                .map(project -> project.getOwner() != null && userId.equals(project.getOwner().getId()))
+                .orElse(false);
+        if (!owned) {
+            throw new IllegalArgumentException("Project not found: " + projectId);
+        }
+        grants.put("project:" + projectId, projectId);
+    }
+
+    /**
+     * Returns the id of the task's project once access is confirmed.
+     */
+    public Long requireTask(Long taskId) {
+        Map<String, Long> grants = grants();
+        Long projectId = grants.get("task:" + taskId);
+        if (projectId != null) {
+            return projectId;
+        }
+        Long userId = SecurityUtils.currentUserId();
+        projectId = userId == null ? null : taskRepository.findProjectIdByIdAndOwnerId(taskId, userId).orElse(null);
+        if (projectId == null) {
+            throw new IllegalArgumentException("Task not found: " + taskId);
+        }
+        grants.put("task:" + taskId, projectId);
+        grants.put("project:" + projectId, projectId);
+        return projectId;
+    }
+
+    /**
+     * Memoises access already proven by another owner-scoped query, such as an ETag version lookup.
+     */
+    void recordProjectGrant(Long projectId) {
+        grants().put("project:" + projectId, projectId);
+    }
+
+    void recordTaskGrant(Long taskId, Long projectId) {
+        Map<String, Long> grants = grants();
+        grants.put("task:" + taskId, projectId);
+        grants.put("project:" + projectId, projectId);
+    }
+
+    @SuppressWarnings("unchecked")
+    private Map<String, Long> grants() {
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        if (attributes == null) {
+            // Outside a web request (startup jobs, async work) nothing is memoised.
+            return new HashMap<>();
+        }
+        Map<String, Long> grants = (Map<String, Long>) attributes.getAttribute(GRANTS_ATTRIBUTE, RequestAttributes.SCOPE_REQUEST);
+        if (grants == null) {
+            grants = new HashMap<>();
+            attributes.setAttribute(GRANTS_ATTRIBUTE, grants, RequestAttributes.SCOPE_REQUEST);
+        }
+        return grants;
+    }
+}
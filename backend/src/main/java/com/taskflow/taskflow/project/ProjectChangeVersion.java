@@ -0,0 +1,24 @@
+package com.taskflow.taskflow.project;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+/**
+ * Monotonic change counter per project, bumped once by every transaction that writes the project, its tasks or comments.
+ * Kept out of `projects` so polling reads and version bumps never contend with the project row itself.
+ */
+@Entity
+@Table(name = "project_change_versions")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class ProjectChangeVersion {
+
+    @Id
+    @Column(name = "project_id")
+    private Long projectId;
+
+    @Column(nullable = false)
+    private long version;
+}
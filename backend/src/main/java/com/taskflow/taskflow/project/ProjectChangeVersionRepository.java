@@ -0,0 +1,28 @@
+package com.taskflow.taskflow.project;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Optional;
+
+/**
+ * Version lookups double as the ownership check, so a conditional GET costs one indexed query.
+ */
+public interface ProjectChangeVersionRepository extends JpaRepository<ProjectChangeVersion, Long> {
+
+    record TaskProjectVersion(Long projectId, Long version) {
+    }
+
+    /**
+     * Empty when the project does not exist or belongs to someone else; projects never written yet report version 0.
+     */
+    @Query("select coalesce(v.version, 0) from Project p left join ProjectChangeVersion v on v.projectId = p.id "
+            + "where p.id = :projectId and p.owner.id = :ownerId")
+    Optional<Long> findVersionForOwner(@Param("projectId") Long projectId, @Param("ownerId") Long ownerId);
+
+    @Query("select new com.taskflow.taskflow.project.ProjectChangeVersionRepository$TaskProjectVersion(p.id, coalesce(v.version, 0)) "
+            + "from TaskItem t join t.project p left join ProjectChangeVersion v on v.projectId = p.id "
+            + "where t.id = :taskId and p.owner.id = :ownerId")
+    Optional<TaskProjectVersion> findVersionForTaskOwner(@Param("taskId") Long taskId, @Param("ownerId") Long ownerId);
+}
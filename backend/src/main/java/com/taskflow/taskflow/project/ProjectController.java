@@ -1,12 +1,19 @@
 package com.taskflow.taskflow.project;
 
+import com.taskflow.taskflow.common.IfMatch;
+import com.taskflow.taskflow.common.Negotiation;
+import com.taskflow.taskflow.common.SparseFields;
 import com.taskflow.taskflow.project.dto.CreateProjectRequest;
 import com.taskflow.taskflow.project.dto.ProjectDto;
 import com.taskflow.taskflow.project.dto.UpdateProjectRequest;
+import com.taskflow.taskflow.task.TaskField;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import java.util.List;
 
@@ -18,16 +25,25 @@ import java.util.List;
 public class ProjectController {
 
     private final ProjectService projectService;
+    private final ProjectVersionService versionService;
 
-    public ProjectController(ProjectService projectService) {
+    public ProjectController(ProjectService projectService, ProjectVersionService versionService) {
         this.projectService = projectService;
+        this.versionService = versionService;
     }
 
     /**
      * Returns only the projects owned by the currently logged-in user.
+     * `fields=` and `taskFields=` (comma-separated property names) switch to a sparse projection; embedded tasks are
+     * only loaded when `tasks` is among the fields.
      */
     @GetMapping
-    public List<ProjectDto> getProjects() {
+    public List<?> getProjects(@RequestParam(name = "fields", required = false) String fields,
+                               @RequestParam(name = "taskFields", required = false) String taskFields) {
+        if (fields != null || taskFields != null) {
+            return projectService.listMyProjectFields(SparseFields.parse(fields, ProjectField.class),
+                    SparseFields.parse(taskFields, TaskField.class));
+        }
         return projectService.listMyProjects();
     }
 
@@ -38,17 +54,35 @@ public class ProjectController {
     }
 
     /**
-     * Fetches a single project including its tasks.
+     * Fetches a single project including its tasks, or the sparse fieldset named by `fields=` / `taskFields=`.
+     * Answers `If-None-Match` with 304 after a single version lookup when nothing in the project changed.
      */
     @GetMapping("/{id}")
-    public ProjectDto getProject(@PathVariable("id") Long id) {
+    public Object getProject(@PathVariable("id") Long id,
+                             @RequestParam(name = "fields", required = false) String fields,
+                             @RequestParam(name = "taskFields", required = false) String taskFields,
+                             HttpServletRequest request,
+                             WebRequest webRequest) {
+        if (webRequest.checkNotModified(versionService.projectEtag(id, Negotiation.etagVariant(request)))) {
+            return null;
+        }
+        if (fields != null || taskFields != null) {
+            return projectService.getProjectFields(id, SparseFields.parse(fields, ProjectField.class),
+                    SparseFields.parse(taskFields, TaskField.class));
+        }
         return projectService.getProjectDetails(id);
     }
 
+    /**
+     * With `If-Match: "<version>"` the update applies only to that version of the project (412 otherwise).
+     * The response's ETag is the new version tag; the weak ETag of a GET is a cache validator and is not accepted here.
+     */
     @PutMapping("/{id}")
-    public ProjectDto updateProject(@PathVariable("id") Long id,
-                                    @Valid @RequestBody UpdateProjectRequest request) {
-        return projectService.updateProject(id, request);
+    public ResponseEntity<ProjectDto> updateProject(@PathVariable("id") Long id,
+                                                    @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch,
+                                                    @Valid @RequestBody UpdateProjectRequest request) {
+        ProjectDto project = projectService.updateProject(id, request, IfMatch.expectedVersion(ifMatch));
+        return ResponseEntity.ok().eTag(IfMatch.etag(project.version())).body(project);
     }
 
     @DeleteMapping("/{id}")
@@ -0,0 +1,7 @@
+package com.taskflow.taskflow.project;
+
+/**
+ * Published when a project (and, by cascade, all of its tasks and comments) is deleted.
+ */
+public record ProjectDeletedEvent(Long projectId) {
+}
@@ -0,0 +1,35 @@
+package com.taskflow.taskflow.project;
+
+import com.taskflow.taskflow.common.SparseFields;
+
+/**
+ * Fields of `ProjectDto` a client can ask for with `fields=`.
+ * `tasks` is not a column: it is filled by a second projection query shaped by `taskFields=`.
+ */
+public enum ProjectField implements SparseFields.Field {
+    ID("id", "id"),
+    NAME("name", "name"),
+    DESCRIPTION("description", "description"),
+    OWNER_EMAIL("ownerEmail", "owner.email"),
+    CREATED_AT("createdAt", "createdAt"),
+    VERSION("version", "version"),
+    TASKS("tasks", null);
+
+    private final String jsonName;
+    private final String attribute;
+
+    ProjectField(String jsonName, String attribute) {
+        this.jsonName = jsonName;
+        this.attribute = attribute;
+    }
+
+    @Override
+    public String jsonName() {
+        return jsonName;
+    }
+
+    @Override
+    public String attribute() {
+        return attribute;
+    }
+}
@@ -0,0 +1,16 @@
+package com.taskflow.taskflow.project;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Projection query behind sparse project fieldsets; mixed into {@link ProjectRepository}.
+ */
+public interface ProjectFieldQueries {
+
+    /**
+     * The owner's projects ordered by id, or only `projectId` when it is given; an empty result doubles as "not found".
+     */
+    List<Map<String, Object>> findFields(Long ownerId, Long projectId, Set<ProjectField> fields);
+}
@@ -0,0 +1,39 @@
+package com.taskflow.taskflow.project;
+
+import com.taskflow.taskflow.common.SparseFields;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.Tuple;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Ownership is part of the WHERE clause, so the projection doubles as the access check; `owner` is joined only
+ * when `ownerEmail` is selected.
+ */
+class ProjectFieldQueriesImpl implements ProjectFieldQueries {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public List<Map<String, Object>> findFields(Long ownerId, Long projectId, Set<ProjectField> fields) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Tuple> query = cb.createTupleQuery();
+        Root<Project> root = query.from(Project.class);
+        Predicate owned = cb.equal(root.get("owner").get("id"), ownerId);
+        query.multiselect(SparseFields.selections(root, fields))
+                .where(projectId == null ? owned : cb.and(owned, cb.equal(root.get("id"), projectId)))
+                .orderBy(cb.asc(root.get("id")));
+        return entityManager.createQuery(query)
+                .getResultStream()
+                .map(tuple -> SparseFields.toMap(tuple, fields))
+                .toList();
+    }
+}
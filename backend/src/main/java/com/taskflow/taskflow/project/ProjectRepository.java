@@ -1,10 +1,26 @@
 package com.taskflow.taskflow.project;
 
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import java.util.List;
+import java.util.Optional;
 
-public interface ProjectRepository extends JpaRepository<Project, Long> {
-    List<Project> findByOwnerEmailIgnoreCase(String email);
+/**
+ * Read methods declare their fetch plan up front so mapping to `ProjectDto` never triggers lazy loads.
+ * Task comments are never part of these graphs; tasks carry a comment count and the thread is paged separately.
+ */
+public interface ProjectRepository extends JpaRepository<Project, Long>, ProjectFieldQueries {
+
+    @EntityGraph(attributePaths = {"owner", "tasks", "tasks.assignee"})
+    List<Project> findByOwnerId(Long ownerId);
+
+    @EntityGraph(attributePaths = {"owner", "tasks", "tasks.assignee"})
+    Optional<Project> findWithTasksById(Long id);
+
+    @Query("select p.id from Project p where p.owner.id = :ownerId")
+    List<Long> findIdsByOwnerId(@Param("ownerId") Long ownerId);
 }
 
@@ -1,16 +1,26 @@
 package com.taskflow.taskflow.project;
 
+import com.taskflow.taskflow.comment.TaskCommentRepository;
+import com.taskflow.taskflow.common.OptimisticWrites;
 import com.taskflow.taskflow.common.SecurityUtils;
+import com.taskflow.taskflow.common.SparseFields;
 import com.taskflow.taskflow.project.dto.CreateProjectRequest;
 import com.taskflow.taskflow.project.dto.ProjectDto;
 import com.taskflow.taskflow.project.dto.UpdateProjectRequest;
+import com.taskflow.taskflow.task.TaskField;
 import com.taskflow.taskflow.task.TaskRepository;
 import com.taskflow.taskflow.user.UserAccount;
 import com.taskflow.taskflow.user.UserService;
+import io.micrometer.core.annotation.Timed;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.EnumSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 /**
  * Handles project-related business rules.
@@ -20,30 +30,58 @@ public class ProjectService {
 
     private final ProjectRepository projectRepository;
     private final TaskRepository taskRepository;
+    private final TaskCommentRepository commentRepository;
     private final UserService userService;
     private final ProjectMapper projectMapper;
+    private final ProjectAccessGuard accessGuard;
+    private final ApplicationEventPublisher eventPublisher;
+    private final ProjectVersionService versionService;
+    private final OptimisticWrites optimisticWrites;
 
     public ProjectService(ProjectRepository projectRepository,
                           TaskRepository taskRepository,
+                          TaskCommentRepository commentRepository,
                           UserService userService,
-                          ProjectMapper projectMapper) {
+                          ProjectMapper projectMapper,
+                          ProjectAccessGuard accessGuard,
+                          ApplicationEventPublisher eventPublisher,
+                          ProjectVersionService versionService,
+                          OptimisticWrites optimisticWrites) {
         // Constructor injection keeps collaboration explicit for testing.
         this.projectRepository = projectRepository;
         this.taskRepository = taskRepository;
+        this.commentRepository = commentRepository;
         this.userService = userService;
         this.projectMapper = projectMapper;
+        this.accessGuard = accessGuard;
+        this.eventPublisher = eventPublisher;
+        this.versionService = versionService;
+        this.optimisticWrites = optimisticWrites;
     }
 
+    @Timed("taskflow.projects.list")
     @Transactional(readOnly = true)
     public List<ProjectDto> listMyProjects() {
         // Fetch every project owned by the currently authenticated user.
-        String email = SecurityUtils.currentUserEmail();
-        return projectRepository.findByOwnerEmailIgnoreCase(email)
-                .stream()
+        // One statement regardless of size: tasks carry their comment summary, not the threads themselves.
+        List<Project> projects = projectRepository.findByOwnerId(SecurityUtils.currentUserId());
+        return projects.stream()
                 .map(projectMapper::toDto)
                 .toList();
     }
 
+    /**
+     * Sparse variant of {@link #listMyProjects}: one projection query for the projects and, only if `tasks` is
+     * selected, one more for their tasks' `taskFields`.
+     */
+    @Timed("taskflow.projects.list")
+    @Transactional(readOnly = true)
+    public List<Map<String, Object>> listMyProjectFields(Set<ProjectField> fields, Set<TaskField> taskFields) {
+        return withTasks(projectRepository.findFields(SecurityUtils.currentUserId(), null, columnsFor(fields)),
+                fields, taskFields);
+    }
+
+    @Timed("taskflow.projects.create")
     @Transactional
     public ProjectDto createProject(CreateProjectRequest request) {
         String email = SecurityUtils.currentUserEmail();
@@ -58,37 +96,105 @@ public class ProjectService {
         return projectMapper.toDto(saved);
     }
 
+    /**
+     * Checks ownership with a single existence query and hands back an uninitialised reference,
+     * which is all callers need to attach tasks; nothing else about the project is loaded.
+     */
+    @Timed("taskflow.projects.get")
     @Transactional(readOnly = true)
     public Project getProjectOrThrow(Long id) {
-        return projectRepository.findById(id)
-                .filter(this::isOwnedByCurrentUser)
-                .orElseThrow(() -> new IllegalArgumentException("Project not found: " + id));
+        accessGuard.requireProject(id);
+        return projectRepository.getReferenceById(id);
     }
 
+    @Timed("taskflow.projects.details")
     @Transactional(readOnly = true)
     public ProjectDto getProjectDetails(Long id) {
-        Project project = getProjectOrThrow(id);
+        Project project = getProjectWithTasksOrThrow(id);
         return projectMapper.toDto(project);
     }
 
-    @Transactional
-    public ProjectDto updateProject(Long id, UpdateProjectRequest request) {
-        Project project = getProjectOrThrow(id);
-        project.setName(request.name());
-        project.setDescription(request.description());
-        Project saved = projectRepository.save(project);
-        return projectMapper.toDto(saved);
+    /**
+     * Sparse variant of {@link #getProjectDetails}; a project the caller does not own is reported as not found.
+     */
+    @Timed("taskflow.projects.details")
+    @Transactional(readOnly = true)
+    public Map<String, Object> getProjectFields(Long id, Set<ProjectField> fields, Set<TaskField> taskFields) {
+        List<Map<String, Object>> rows = projectRepository.findFields(SecurityUtils.currentUserId(), id, columnsFor(fields));
+        if (rows.isEmpty()) {
+            throw new IllegalArgumentException("Project not found: " + id);
+        }
+        return withTasks(rows, fields, taskFields).get(0);
+    }
+
+    /**
+     * `expectedVersion` comes from `If-Match` and must equal the project's `version` (412 otherwise); without it,
+     * a write that loses a race with another update is retried from a fresh read.
+     */
+    @Timed("taskflow.projects.update")
+    public ProjectDto updateProject(Long id, UpdateProjectRequest request, Long expectedVersion) {
+        return optimisticWrites.execute("project", "update", expectedVersion != null, () -> {
+            Project project = getProjectWithTasksOrThrow(id);
+            if (expectedVersion != null && project.getVersion() != expectedVersion) {
+                throw new OptimisticLockingFailureException("Project " + id + " changed since version " + expectedVersion);
+            }
+            project.setName(request.name());
+            project.setDescription(request.description());
+            // Flushing now runs the versioned UPDATE, so the returned DTO carries the new version.
+            Project saved = projectRepository.saveAndFlush(project);
+            versionService.markChanged(id);
+            return projectMapper.toDto(saved);
+        });
     }
 
+    @Timed("taskflow.projects.delete")
     @Transactional
     public void deleteProject(Long id) {
         Project project = getProjectOrThrow(id);
+        // Bulk deletes instead of cascading through every task and comment one statement at a time.
+        // The tasks collection is still unloaded, so the cascade below finds nothing left to remove.
+        commentRepository.deleteByProjectId(id);
+        taskRepository.deleteByProjectId(id);
         projectRepository.delete(project);
+        eventPublisher.publishEvent(new ProjectDeletedEvent(id));
+    }
+
+    private Project getProjectWithTasksOrThrow(Long id) {
+        return projectRepository.findWithTasksById(id)
+                .filter(this::isOwnedByCurrentUser)
+                .orElseThrow(() -> new IllegalArgumentException("Project not found: " + id));
+    }
+
+    /**
+     * Embedding tasks needs each project's id, even when the client did not ask for it.
+     */
+    private Set<ProjectField> columnsFor(Set<ProjectField> fields) {
+        Set<ProjectField> columns = EnumSet.copyOf(fields);
+        if (fields.contains(ProjectField.TASKS)) {
+            columns.add(ProjectField.ID);
+        }
+        return columns;
+    }
+
+    private List<Map<String, Object>> withTasks(List<Map<String, Object>> projects,
+                                                Set<ProjectField> fields,
+                                                Set<TaskField> taskFields) {
+        if (fields.contains(ProjectField.TASKS) && !projects.isEmpty()) {
+            List<Long> ids = projects.stream().map(row -> (Long) row.get(ProjectField.ID.jsonName())).toList();
+            Map<Long, List<Map<String, Object>>> tasks = taskRepository.findFieldsByProjectIds(ids, taskFields);
+            for (Map<String, Object> project : projects) {
+                project.put(ProjectField.TASKS.jsonName(),
+                        tasks.getOrDefault((Long) project.get(ProjectField.ID.jsonName()), List.of()));
+            }
+        }
+        SparseFields.retain(projects, fields);
+        return projects;
     }
 
     private boolean isOwnedByCurrentUser(Project project) {
-        String currentEmail = SecurityUtils.currentUserEmail();
-        return project.getOwner() != null && project.getOwner().getEmail().equalsIgnoreCase(currentEmail);
+        // The owner is part of the fetch graph, so this compares ids without another query.
+        Long currentUserId = SecurityUtils.currentUserId();
+        return project.getOwner() != null && project.getOwner().getId().equals(currentUserId);
     }
 }
 
@@ -0,0 +1,134 @@
+package com.taskflow.taskflow.project;
+
+import com.taskflow.taskflow.common.SecurityUtils;
+import com.taskflow.taskflow.project.ProjectChangeVersionRepository.TaskProjectVersion;
+import com.taskflow.taskflow.task.TaskChangedEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeSet;
+
+/**
+ * Issues ETags for project-scoped reads from `project_change_versions`; these only validate caches (`If-None-Match`).
+ * Conditional writes use the entity `@Version` tags from {@link com.taskflow.taskflow.common.IfMatch} instead.
+ * Writers mark projects changed; each changed project's version is bumped once, just before the transaction commits.
+ */
+@Service
+public class ProjectVersionService {
+
+    private static final String CHANGED_PROJECTS = ProjectVersionService.class.getName() + ".changedProjects";
+
+    private final ProjectChangeVersionRepository versionRepository;
+    private final ProjectAccessGuard accessGuard;
+    private final JdbcTemplate jdbcTemplate;
+
+    public ProjectVersionService(ProjectChangeVersionRepository versionRepository,
+                                 ProjectAccessGuard accessGuard,
+                                 JdbcTemplate jdbcTemplate) {
+        this.versionRepository = versionRepository;
+        this.accessGuard = accessGuard;
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    /**
+     * ETag for a read of the project; `variant` distinguishes representations of the same project (e.g. the query string).
+     * Also records the access grant, so the read that follows a changed ETag does not re-check ownership.
+     */
+    public String projectEtag(Long projectId, String variant) {
+        Long userId = SecurityUtils.currentUserId();
+        Optional<Long> found = userId == null ? Optional.empty() : versionRepository.findVersionForOwner(projectId, userId);
+        long version = found.orElseThrow(() -> new IllegalArgumentException("Project not found: " + projectId));
+        accessGuard.recordProjectGrant(projectId);
+        return etag(projectId, version, variant);
+    }
+
+    /**
+     * ETag for a read scoped to one task (such as its comments), versioned by the task's project.
+     */
+    public String taskEtag(Long taskId, String variant) {
+        Long userId = SecurityUtils.currentUserId();
+        Optional<TaskProjectVersion> found = userId == null ? Optional.empty() : versionRepository.findVersionForTaskOwner(taskId, userId);
+        TaskProjectVersion version = found.orElseThrow(() -> new IllegalArgumentException("Task not found: " + taskId));
+        accessGuard.recordTaskGrant(taskId, version.projectId());
+        return etag(version.projectId(), version.version(), "t" + taskId + ":" + (variant == null ? "" : variant));
+    }
+
+    /**
+     * Marks the project as changed by the current transaction; repeated calls in one transaction bump it only once.
+     */
+    public void markChanged(Long projectId) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            throw new IllegalStateException("Project changes must be marked inside a transaction");
+        }
+        @SuppressWarnings("unchecked")
+        Set<Long> changed = (Set<Long>) TransactionSynchronizationManager.getResource(CHANGED_PROJECTS);
+        if (changed == null) {
+            Set<Long> created = new TreeSet<>();
+            TransactionSynchronizationManager.bindResource(CHANGED_PROJECTS, created);
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void beforeCommit(boolean readOnly) {
+                    bump(created);
+                }
+
+                @Override
+                public void afterCompletion(int status) {
+                    TransactionSynchronizationManager.unbindResourceIfPossible(CHANGED_PROJECTS);
+                }
+            });
+            changed = created;
+        }
+        changed.add(projectId);
+    }
+
+    @EventListener
+    public void onTaskChanged(TaskChangedEvent event) {
+        markChanged(event.projectId());
+    }
+
+    @EventListener
+    public void onProjectDeleted(ProjectDeletedEvent event) {
+        jdbcTemplate.update("delete from project_change_versions where project_id = ?", event.projectId());
+    }
+
+    private void bump(Set<Long> projectIds) {
+        // Sorted ids keep the row-lock order stable across concurrent writers.
+        List<Object[]> ids = new ArrayList<>();
+        for (Long projectId : projectIds) {
+            ids.add(new Object[]{projectId});
+        }
+        jdbcTemplate.batchUpdate("insert into project_change_versions (project_id, version) values (?, 0) on conflict do nothing", ids);
+        jdbcTemplate.batchUpdate("update project_change_versions set version = version + 1 where project_id = ?", ids);
+    }
+
+    /**
+     * Weak, because the bytes also vary with `Content-Encoding`; Tomcat will not compress a response with a strong ETag.
+     * The variant is folded in as a truncated SHA-256 (96 bits), so two representations never share a tag by accident.
+     */
+    private static String etag(Long projectId, long version, String variant) {
+        String suffix = variant == null || variant.isEmpty() ? "" : "-" + digest(variant);
+        return "W/\"p" + projectId + "-v" + version + suffix + "\"";
+    }
+
+    private static String digest(String variant) {
+        try {
+            byte[] hash = MessageDigest.getInstance("SHA-256").digest(variant.getBytes(StandardCharsets.UTF_8));
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(Arrays.copyOf(hash, 12));
+        } catch (NoSuchAlgorithmException impossible) {
+            // Every JRE is required to ship SHA-256.
+            throw new IllegalStateException(impossible);
+        }
+    }
+}
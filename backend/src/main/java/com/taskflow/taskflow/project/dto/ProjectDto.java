@@ -14,6 +14,7 @@ public record ProjectDto(
         String description,
         String ownerEmail,
         Instant createdAt,
+        long version,
         List<TaskDto> tasks
 ) {
 }
@@ -0,0 +1,35 @@
+package com.taskflow.taskflow.search;
+
+import com.taskflow.taskflow.search.dto.TaskSearchHit;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+/**
+ * Search endpoints under `/api/search`.
+ */
+@RestController
+@RequestMapping("/api/search")
+public class SearchController {
+
+    private static final int MAX_LIMIT = 100;
+
+    private final TaskSearchService taskSearchService;
+
+    public SearchController(TaskSearchService taskSearchService) {
+        this.taskSearchService = taskSearchService;
+    }
+
+    /**
+     * Every word in `q` must match a task's title, description or comments; the last letters of a word may be omitted.
+     */
+    @GetMapping("/tasks")
+    public List<TaskSearchHit> searchTasks(@RequestParam("q") String query,
+                                           @RequestParam(value = "projectId", required = false) Long projectId,
+                                           @RequestParam(value = "limit", defaultValue = "20") int limit) {
+        return taskSearchService.search(query, projectId, Math.max(1, Math.min(limit, MAX_LIMIT)));
+    }
+}
@@ -0,0 +1,38 @@
+package com.taskflow.taskflow.search;
+
+import com.taskflow.taskflow.task.TaskItem;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.Repository;
+
+import java.util.stream.Stream;
+
+/**
+ * Read-only projections used to build the search index without materialising entities.
+ */
+interface SearchSourceRepository extends Repository<TaskItem, Long> {
+
+    record TaskText(Long taskId, Long projectId, String title, String description) {
+    }
+
+    record CommentText(Long commentId, Long taskId, String body) {
+    }
+
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("select new com.taskflow.taskflow.search.SearchSourceRepository$TaskText(t.id, t.project.id, t.title, t.description) "
+            + "from TaskItem t")
+    Stream<TaskText> streamTaskText();
+
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("select new com.taskflow.taskflow.search.SearchSourceRepository$CommentText(c.id, c.task.id, c.body) "
+            + "from TaskComment c")
+    Stream<CommentText> streamCommentText();
+}
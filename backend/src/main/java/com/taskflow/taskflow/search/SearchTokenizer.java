@@ -0,0 +1,40 @@
+package com.taskflow.taskflow.search;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Splits text into lower-case alphanumeric terms for the task search index.
+ */
+final class SearchTokenizer {
+
+    static final int MIN_TERM_LENGTH = 2;
+    static final int MAX_TERM_LENGTH = 40;
+
+    private SearchTokenizer() {
+    }
+
+    static List<String> tokenize(String text) {
+        List<String> terms = new ArrayList<>();
+        if (text == null || text.isEmpty()) {
+            return terms;
+        }
+        String lower = text.toLowerCase(Locale.ROOT);
+        int start = -1;
+        for (int i = 0; i <= lower.length(); i++) {
+            boolean wordChar = i < lower.length() && Character.isLetterOrDigit(lower.charAt(i));
+            if (wordChar && start < 0) {
+                start = i;
+            } else if (!wordChar && start >= 0) {
+                int length = i - start;
+                if (length >= MIN_TERM_LENGTH) {
+                    // Over-long tokens (hashes, URLs) are truncated rather than dropped so prefixes still match.
+                    terms.add(lower.substring(start, start + Math.min(length, MAX_TERM_LENGTH)));
+                }
+                start = -1;
+            }
+        }
+        return terms;
+    }
+}
@@ -0,0 +1,289 @@
+package com.taskflow.taskflow.search;
+
+import com.taskflow.taskflow.search.dto.TaskSearchHit;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+
+/**
+ * In-memory inverted index over task titles, descriptions and comments.
+ * The term dictionary is sorted so prefix queries are a range scan; postings map task id to a field-weighted term frequency.
+ * Reads are lock-free, writes are serialised on the index.
+ */
+class TaskSearchIndex {
+
+    static final int TITLE_WEIGHT = 3;
+    static final int DESCRIPTION_WEIGHT = 1;
+    static final int COMMENT_WEIGHT = 1;
+
+    /**
+     * Caps how many dictionary terms one short prefix may expand to; the most frequent terms are kept, plus the query
+     * term itself when it is a whole term.
+     */
+    static final int MAX_PREFIX_EXPANSIONS = 50;
+
+    /** Prefix-only matches rank below exact term matches. */
+    private static final double PREFIX_MATCH_FACTOR = 0.5;
+
+    private final ConcurrentSkipListMap<String, Map<Long, Integer>> postings = new ConcurrentSkipListMap<>();
+    private final Map<Long, IndexedTask> tasks = new ConcurrentHashMap<>();
+    private final Map<Long, Set<Long>> tasksByProject = new ConcurrentHashMap<>();
+
+    private static final class IndexedTask {
+        final Long projectId;
+        final String title;
+        final Map<String, Integer> textTerms;
+        final Map<String, Integer> commentTerms;
+
+        IndexedTask(Long projectId, String title, Map<String, Integer> textTerms, Map<String, Integer> commentTerms) {
+            this.projectId = projectId;
+            this.title = title;
+            this.textTerms = textTerms;
+            this.commentTerms = commentTerms;
+        }
+
+        Map<String, Integer> allTerms() {
+            Map<String, Integer> all = new HashMap<>(textTerms);
+            commentTerms.forEach((term, weight) -> all.merge(term, weight, Integer::sum));
+            return all;
+        }
+    }
+
+    int size() {
+        return tasks.size();
+    }
+
+    /**
+     * Adds or replaces a task's title and description; comment terms already indexed for it are kept.
+     */
+    synchronized void upsertTask(Long taskId, Long projectId, String title, String description) {
+        Map<String, Integer> textTerms = new HashMap<>();
+        addTerms(textTerms, title, TITLE_WEIGHT);
+        addTerms(textTerms, description, DESCRIPTION_WEIGHT);
+
+        IndexedTask previous = tasks.get(taskId);
+        Map<String, Integer> commentTerms = previous == null ? new HashMap<>() : previous.commentTerms;
+        IndexedTask current = new IndexedTask(projectId, title, textTerms, commentTerms);
+        replacePostings(taskId, previous == null ? Map.of() : previous.allTerms(), current.allTerms());
+        tasks.put(taskId, current);
+        tasksByProject.computeIfAbsent(projectId, id -> ConcurrentHashMap.newKeySet()).add(taskId);
+    }
+
+    /**
+     * Folds a comment into its task's document; comments for tasks the index does not know are ignored.
+     */
+    synchronized void addComment(Long taskId, String body) {
+        IndexedTask task = tasks.get(taskId);
+        if (task == null) {
+            return;
+        }
+        Map<String, Integer> added = new HashMap<>();
+        addTerms(added, body, COMMENT_WEIGHT);
+        added.forEach((term, weight) -> {
+            task.commentTerms.merge(term, weight, Integer::sum);
+            postings.computeIfAbsent(term, t -> new ConcurrentHashMap<>()).merge(taskId, weight, Integer::sum);
+        });
+    }
+
+    synchronized void removeTask(Long taskId) {
+        IndexedTask previous = tasks.remove(taskId);
+        if (previous == null) {
+            return;
+        }
+        replacePostings(taskId, previous.allTerms(), Map.of());
+        Set<Long> projectTasks = tasksByProject.get(previous.projectId);
+        if (projectTasks != null) {
+            projectTasks.remove(taskId);
+        }
+    }
+
+    synchronized void removeProject(Long projectId) {
+        Set<Long> projectTasks = tasksByProject.remove(projectId);
+        if (projectTasks == null) {
+            return;
+        }
+        for (Long taskId : List.copyOf(projectTasks)) {
+            removeTask(taskId);
+        }
+    }
+
+    /**
+     * Every query term must match (exactly or as a prefix); hits are ranked by weighted tf-idf.
+     * Candidates come from whichever is cheaper to walk: the postings of the most selective term, filtered to the
+     * caller's projects, or the caller's own tasks probed against those postings. A user with one small project therefore
+     * pays for that project, not for every match in the index.
+     *
+     * @param projectIds the caller's projects; hits outside them are never returned
+     */
+    List<TaskSearchHit> search(String query, Set<Long> projectIds, int limit) {
+        List<String> queryTerms = SearchTokenizer.tokenize(query).stream().distinct().toList();
+        if (queryTerms.isEmpty() || tasks.isEmpty()) {
+            return List.of();
+        }
+        double documentCount = tasks.size();
+
+        // Expand each query term once, then start from the most selective one so later terms only probe candidates.
+        List<Map<String, Double>> expansions = new ArrayList<>();
+        for (String queryTerm : queryTerms) {
+            Map<String, Double> expanded = expand(queryTerm, documentCount);
+            if (expanded.isEmpty()) {
+                return List.of();
+            }
+            expansions.add(expanded);
+        }
+        expansions.sort(Comparator.comparingLong(this::postingCount));
+
+        Map<String, Double> first = expansions.get(0);
+        long ownTasks = 0;
+        for (Long projectId : projectIds) {
+            Set<Long> projectTasks = tasksByProject.get(projectId);
+            ownTasks += projectTasks == null ? 0 : projectTasks.size();
+        }
+        Map<Long, Double> scores = new HashMap<>();
+        if (ownTasks * first.size() < postingCount(first)) {
+            for (Long projectId : projectIds) {
+                for (Long taskId : tasksByProject.getOrDefault(projectId, Set.of())) {
+                    double score = score(first, taskId);
+                    if (score > 0) {
+                        scores.put(taskId, score);
+                    }
+                }
+            }
+        } else {
+            first.forEach((term, termWeight) -> {
+                Map<Long, Integer> termPostings = postings.get(term);
+                if (termPostings == null) {
+                    return;
+                }
+                termPostings.forEach((taskId, frequency) -> {
+                    IndexedTask task = tasks.get(taskId);
+                    if (task != null && projectIds.contains(task.projectId)) {
+                        scores.merge(taskId, frequency * termWeight, Double::sum);
+                    }
+                });
+            });
+        }
+
+        for (int i = 1; i < expansions.size() && !scores.isEmpty(); i++) {
+            Map<String, Double> expanded = expansions.get(i);
+            scores.entrySet().removeIf(entry -> {
+                double score = score(expanded, entry.getKey());
+                if (score == 0) {
+                    return true;
+                }
+                entry.setValue(entry.getValue() + score);
+                return false;
+            });
+        }
+        return topHits(scores, limit);
+    }
+
+    /**
+     * The task's weighted score for one expanded query term; 0 when none of the expansions occur in it.
+     */
+    private double score(Map<String, Double> expanded, Long taskId) {
+        double score = 0;
+        for (Map.Entry<String, Double> term : expanded.entrySet()) {
+            Map<Long, Integer> termPostings = postings.get(term.getKey());
+            Integer frequency = termPostings == null ? null : termPostings.get(taskId);
+            if (frequency != null) {
+                score += frequency * term.getValue();
+            }
+        }
+        return score;
+    }
+
+    /**
+     * The query term itself plus up to {@link #MAX_PREFIX_EXPANSIONS} longer terms it prefixes, the most frequent first,
+     * so a short prefix keeps the terms most likely to matter rather than the alphabetically first ones.
+     */
+    private Map<String, Double> expand(String queryTerm, double documentCount) {
+        Map<String, Double> expanded = new HashMap<>();
+        PriorityQueue<Map.Entry<String, Integer>> mostFrequent =
+                new PriorityQueue<>(MAX_PREFIX_EXPANSIONS + 1, Map.Entry.comparingByValue());
+        NavigableMap<String, Map<Long, Integer>> range = postings.subMap(queryTerm, true, queryTerm + Character.MAX_VALUE, false);
+        for (Map.Entry<String, Map<Long, Integer>> entry : range.entrySet()) {
+            int documentFrequency = entry.getValue().size();
+            if (documentFrequency == 0) {
+                continue;
+            }
+            if (entry.getKey().equals(queryTerm)) {
+                expanded.put(queryTerm, Math.log(1 + documentCount / documentFrequency));
+                continue;
+            }
+            mostFrequent.offer(Map.entry(entry.getKey(), documentFrequency));
+            if (mostFrequent.size() > MAX_PREFIX_EXPANSIONS) {
+                mostFrequent.poll();
+            }
+        }
+        for (Map.Entry<String, Integer> term : mostFrequent) {
+            expanded.put(term.getKey(), Math.log(1 + documentCount / term.getValue()) * PREFIX_MATCH_FACTOR);
+        }
+        return expanded;
+    }
+
+    private long postingCount(Map<String, Double> expanded) {
+        long count = 0;
+        for (String term : expanded.keySet()) {
+            Map<Long, Integer> termPostings = postings.get(term);
+            count += termPostings == null ? 0 : termPostings.size();
+        }
+        return count;
+    }
+
+    private List<TaskSearchHit> topHits(Map<Long, Double> scores, int limit) {
+        Comparator<Map.Entry<Long, Double>> byScore = Map.Entry.<Long, Double>comparingByValue()
+                .thenComparing(Map.Entry.<Long, Double>comparingByKey().reversed());
+        PriorityQueue<Map.Entry<Long, Double>> top = new PriorityQueue<>(limit + 1, byScore);
+        for (Map.Entry<Long, Double> entry : scores.entrySet()) {
+            top.offer(entry);
+            if (top.size() > limit) {
+                top.poll();
+            }
+        }
+        List<TaskSearchHit> hits = new ArrayList<>(top.size());
+        while (!top.isEmpty()) {
+            Map.Entry<Long, Double> entry = top.poll();
+            IndexedTask task = tasks.get(entry.getKey());
+            if (task != null) {
+                hits.add(new TaskSearchHit(entry.getKey(), task.projectId, task.title, entry.getValue()));
+            }
+        }
+        Collections.reverse(hits);
+        return hits;
+    }
+
+    private void replacePostings(Long taskId, Map<String, Integer> before, Map<String, Integer> after) {
+        before.forEach((term, weight) -> {
+            if (!after.containsKey(term)) {
+                Map<Long, Integer> termPostings = postings.get(term);
+                if (termPostings != null) {
+                    termPostings.remove(taskId);
+                    if (termPostings.isEmpty()) {
+                        postings.remove(term);
+                    }
+                }
+            }
+        });
+        after.forEach((term, weight) -> {
+            if (!weight.equals(before.get(term))) {
+                postings.computeIfAbsent(term, t -> new ConcurrentHashMap<>()).put(taskId, weight);
+            }
+        });
+    }
+
+    private static void addTerms(Map<String, Integer> terms, String text, int weight) {
+        for (String term : SearchTokenizer.tokenize(text)) {
+            terms.merge(term, weight, Integer::sum);
+        }
+    }
+}
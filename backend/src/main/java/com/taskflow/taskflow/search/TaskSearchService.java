@@ -0,0 +1,146 @@
+package com.taskflow.taskflow.search;
+
+import com.taskflow.taskflow.common.SecurityUtils;
+import com.taskflow.taskflow.project.ProjectAccessGuard;
+import com.taskflow.taskflow.project.ProjectDeletedEvent;
+import com.taskflow.taskflow.project.ProjectRepository;
+import com.taskflow.taskflow.search.dto.TaskSearchHit;
+import com.taskflow.taskflow.task.TaskChangedEvent;
+import com.taskflow.taskflow.task.dto.TaskDto;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Stream;
+
+/**
+ * Full-text search over tasks and their comments, scoped to the caller's projects.
+ * The index is built once at startup and then kept current from committed task events, so queries never scan the tables.
+ */
+@Service
+public class TaskSearchService {
+
+    private static final Logger log = LoggerFactory.getLogger(TaskSearchService.class);
+
+    private final TaskSearchIndex index = new TaskSearchIndex();
+    private final SearchSourceRepository sourceRepository;
+    private final ProjectRepository projectRepository;
+    private final ProjectAccessGuard accessGuard;
+    private final TransactionTemplate readOnlyTransaction;
+
+    /**
+     * Events committed while the initial build is running. They are replayed in commit order once the build finishes,
+     * so rows the build read before a change are overwritten rather than the change being lost; guarded by itself.
+     */
+    private List<Object> pendingDuringBuild;
+
+    /** Comments delivered by events during the build; the build skips their rows so replay does not index them twice. */
+    private final Set<Long> commentsFromEvents = ConcurrentHashMap.newKeySet();
+
+    public TaskSearchService(SearchSourceRepository sourceRepository,
+                             ProjectRepository projectRepository,
+                             ProjectAccessGuard accessGuard,
+                             PlatformTransactionManager transactionManager) {
+        this.sourceRepository = sourceRepository;
+        this.projectRepository = projectRepository;
+        this.accessGuard = accessGuard;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+    }
+
+    public List<TaskSearchHit> search(String query, Long projectId, int limit) {
+        if (projectId != null) {
+            accessGuard.requireProject(projectId);
+            return index.search(query, Set.of(projectId), limit);
+        }
+        Long userId = SecurityUtils.currentUserId();
+        if (userId == null) {
+            return List.of();
+        }
+        Set<Long> projectIds = new HashSet<>(projectRepository.findIdsByOwnerId(userId));
+        if (projectIds.isEmpty()) {
+            return List.of();
+        }
+        return index.search(query, projectIds, limit);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void buildIndex() {
+        long started = System.nanoTime();
+        List<Object> pending = new ArrayList<>();
+        synchronized (this) {
+            pendingDuringBuild = pending;
+        }
+        try {
+            readOnlyTransaction.executeWithoutResult(status -> {
+                try (Stream<SearchSourceRepository.TaskText> rows = sourceRepository.streamTaskText()) {
+                    rows.forEach(row -> index.upsertTask(row.taskId(), row.projectId(), row.title(), row.description()));
+                }
+                try (Stream<SearchSourceRepository.CommentText> rows = sourceRepository.streamCommentText()) {
+                    rows.filter(row -> !commentsFromEvents.contains(row.commentId()))
+                            .forEach(row -> index.addComment(row.taskId(), row.body()));
+                }
+            });
+        } finally {
+            synchronized (this) {
+                pending.forEach(this::apply);
+                pendingDuringBuild = null;
+                commentsFromEvents.clear();
+            }
+        }
+        log.info("Indexed {} tasks for search in {} ms ({} events replayed)",
+                index.size(), (System.nanoTime() - started) / 1_000_000, pending.size());
+    }
+
+    /**
+     * Applied only after the writing transaction commits, so rolled-back changes never become searchable.
+     */
+    @TransactionalEventListener
+    public void onTaskChanged(TaskChangedEvent event) {
+        deliver(event);
+    }
+
+    @TransactionalEventListener
+    public void onProjectDeleted(ProjectDeletedEvent event) {
+        deliver(event);
+    }
+
+    private void deliver(Object event) {
+        synchronized (this) {
+            if (pendingDuringBuild != null) {
+                if (event instanceof TaskChangedEvent changed && changed.kind() == TaskChangedEvent.Kind.COMMENT_ADDED) {
+                    commentsFromEvents.add(changed.comment().id());
+                }
+                pendingDuringBuild.add(event);
+                return;
+            }
+        }
+        apply(event);
+    }
+
+    private void apply(Object event) {
+        if (event instanceof ProjectDeletedEvent deleted) {
+            index.removeProject(deleted.projectId());
+            return;
+        }
+        TaskChangedEvent changed = (TaskChangedEvent) event;
+        switch (changed.kind()) {
+            case TASK_CREATED, TASK_UPDATED -> {
+                TaskDto task = changed.task();
+                index.upsertTask(task.id(), changed.projectId(), task.title(), task.description());
+            }
+            case TASK_DELETED -> index.removeTask(changed.taskId());
+            case COMMENT_ADDED -> index.addComment(changed.taskId(), changed.comment().body());
+        }
+    }
+}
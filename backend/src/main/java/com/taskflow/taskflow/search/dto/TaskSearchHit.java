@@ -0,0 +1,12 @@
+package com.taskflow.taskflow.search.dto;
+
+/**
+ * One ranked search result; fetch the full task through the task endpoints if needed.
+ */
+public record TaskSearchHit(
+        Long taskId,
+        Long projectId,
+        String title,
+        double score
+) {
+}
@@ -5,9 +5,11 @@ import com.taskflow.taskflow.user.UserRepository;
 import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UserDetailsPasswordService;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.Set;
 import java.util.stream.Collectors;
@@ -16,7 +18,7 @@ import java.util.stream.Collectors;
  * Adapts our `UserAccount` to Spring Security's `UserDetails`.
  */
 @Service
-public class CustomUserDetailsService implements UserDetailsService {
+public class CustomUserDetailsService implements UserDetailsService, UserDetailsPasswordService {
 
     private final UserRepository userRepository;
 
@@ -24,21 +26,45 @@ public class CustomUserDetailsService implements UserDetailsService {
         this.userRepository = userRepository;
     }
 
+    /**
+     * Used by the login flow, which needs the stored password hash to compare against.
+     */
     @Override
     public UserDetails loadUserByUsername(String email) throws UsernameNotFoundException {
-        UserAccount user = userRepository.findByEmailIgnoreCase(email)
+        UserAccount user = findOrThrow(email);
+        return new AuthenticatedUser(user.getId(), user.getEmail(), user.getPasswordHash(), authoritiesOf(user));
+    }
+
+    /**
+     * Used for token-authenticated requests: the JWT already proves identity, so the hash is left out.
+     * This is what `PrincipalCache` keeps in memory.
+     */
+    public AuthenticatedUser loadPrincipal(String email) throws UsernameNotFoundException {
+        UserAccount user = findOrThrow(email);
+        return new AuthenticatedUser(user.getId(), user.getEmail(), "", authoritiesOf(user));
+    }
+
+    /**
+     * Stores the fresh hash produced after a login with an outdated cost factor.
+     */
+    @Override
+    @Transactional
+    public UserDetails updatePassword(UserDetails user, String newPassword) {
+        UserAccount account = findOrThrow(user.getUsername());
+        account.setPasswordHash(newPassword);
+        userRepository.save(account);
+        return new AuthenticatedUser(account.getId(), account.getEmail(), newPassword, authoritiesOf(account));
+    }
+
+    private UserAccount findOrThrow(String email) {
+        return userRepository.lookupByEmail(email)
                 .orElseThrow(() -> new UsernameNotFoundException("User not found: " + email));
+    }
 
-        Set<GrantedAuthority> authorities = user.getRoles()
+    private Set<GrantedAuthority> authoritiesOf(UserAccount user) {
+        return user.getRoles()
                 .stream()
                 .map(role -> new SimpleGrantedAuthority("ROLE_" + role.name()))
                 .collect(Collectors.toSet());
-
-        return org.springframework.security.core.userdetails.User.builder()
-                .username(user.getEmail())
-                .password(user.getPasswordHash())
-                .authorities(authorities)
-                .build();
     }
 }
-
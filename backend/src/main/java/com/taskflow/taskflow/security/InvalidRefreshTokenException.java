@@ -0,0 +1,11 @@
+package com.taskflow.taskflow.security;
+
+/**
+ * A refresh token that is malformed, expired, unknown, already used or revoked.
+ */
+public class InvalidRefreshTokenException extends RuntimeException {
+
+    public InvalidRefreshTokenException(String message) {
+        super(message);
+    }
+}
@@ -1,6 +1,8 @@
 package com.taskflow.taskflow.security;
 
 import com.auth0.jwt.interfaces.DecodedJWT;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -14,36 +16,44 @@ import org.springframework.stereotype.Component;
 import org.springframework.web.filter.OncePerRequestFilter;
 
 import java.io.IOException;
+import java.util.regex.Pattern;
 
 /**
  * Reads the `Authorization: Bearer <token>` header, validates the JWT, and sets the authenticated user into the security context.
+ * The project event stream may pass the token as `access_token` instead.
  * Runs once per request before controllers execute.
  */
 @Component
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
+    private static final Pattern EVENT_STREAM_PATH = Pattern.compile("/api/projects/\\d+/events");
+
     private final JwtService jwtService;
-    private final CustomUserDetailsService userDetailsService;
+    private final PrincipalCache principalCache;
+    private final MeterRegistry meterRegistry;
 
-    public JwtAuthenticationFilter(JwtService jwtService, CustomUserDetailsService userDetailsService) {
+    public JwtAuthenticationFilter(JwtService jwtService, PrincipalCache principalCache, MeterRegistry meterRegistry) {
         this.jwtService = jwtService;
-        this.userDetailsService = userDetailsService;
+        this.principalCache = principalCache;
+        this.meterRegistry = meterRegistry;
     }
 
     @Override
     protected void doFilterInternal(HttpServletRequest request,
                                     HttpServletResponse response,
                                     FilterChain filterChain) throws ServletException, IOException {
-        String authHeader = request.getHeader(HttpHeaders.AUTHORIZATION);
-        if (authHeader != null && authHeader.startsWith("Bearer ")) {
-            String token = authHeader.substring(7);
+        String token = resolveToken(request);
+        if (token != null) {
+            Timer.Sample sample = Timer.start(meterRegistry);
+            String outcome = "invalid";
             try {
                 // Verify signature and expiration before trusting the token payload.
                 DecodedJWT decoded = jwtService.verify(token);
+                outcome = "valid";
                 if ("ACCESS".equals(decoded.getClaim("type").asString())
                         && SecurityContextHolder.getContext().getAuthentication() == null) {
-                    // Look up the user to rebuild the Spring Security principal for downstream code.
-                    UserDetails userDetails = userDetailsService.loadUserByUsername(decoded.getSubject());
+                    // Rebuild the Spring Security principal for downstream code; cached, so usually no DB hit.
+                    UserDetails userDetails = principalCache.get(decoded.getSubject());
                     UsernamePasswordAuthenticationToken authentication =
                             new UsernamePasswordAuthenticationToken(
                                     userDetails, null, userDetails.getAuthorities());
@@ -52,9 +62,24 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
                 }
             } catch (Exception verificationError) {
                 // Intentionally swallow exceptions to avoid exposing stack traces; downstream filter will return 401.
+            } finally {
+                // Covers verification and principal lookup, i.e. the whole per-request cost of token authentication.
+                sample.stop(meterRegistry.timer("auth.jwt.verify", "outcome", outcome));
             }
         }
         filterChain.doFilter(request, response);
     }
+
+    private static String resolveToken(HttpServletRequest request) {
+        String authHeader = request.getHeader(HttpHeaders.AUTHORIZATION);
+        if (authHeader != null && authHeader.startsWith("Bearer ")) {
+            return authHeader.substring(7);
+        }
+        // EventSource cannot set headers, so the SSE feed alone may pass the token as a query parameter.
+        if ("GET".equals(request.getMethod()) && EVENT_STREAM_PATH.matcher(request.getRequestURI()).matches()) {
+            return request.getParameter("access_token");
+        }
+        return null;
+    }
 }
 
@@ -1,12 +1,23 @@
 package com.taskflow.taskflow.security;
 
 import com.auth0.jwt.JWT;
+import com.auth0.jwt.JWTVerifier;
 import com.auth0.jwt.algorithms.Algorithm;
 import com.auth0.jwt.interfaces.DecodedJWT;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
 import com.taskflow.taskflow.config.JwtProperties;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
 import org.springframework.stereotype.Component;
 
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
 import java.time.Instant;
+import java.util.Base64;
 import java.util.Map;
 
 /**
@@ -18,10 +29,26 @@ public class JwtService {
 
     private final JwtProperties properties;
     private final Algorithm algorithm;
+    private final JWTVerifier verifier;
+    private final Cache<String, DecodedJWT> verifiedTokens;
 
-    public JwtService(JwtProperties properties) {
+    public JwtService(JwtProperties properties, MeterRegistry meterRegistry) {
         this.properties = properties;
         this.algorithm = Algorithm.HMAC256(properties.getSecret());
+        // JWTVerifier is immutable and thread-safe, so one instance serves every request.
+        this.verifier = JWT.require(algorithm)
+                .withIssuer(properties.getIssuer())
+                .build();
+        this.verifiedTokens = properties.getVerifiedTokenCacheSize() > 0
+                ? Caffeine.newBuilder()
+                        .maximumSize(properties.getVerifiedTokenCacheSize())
+                        .expireAfter(new UntilTokenExpiry())
+                        .recordStats()
+                        .build()
+                : null;
+        if (verifiedTokens != null) {
+            CaffeineCacheMetrics.monitor(meterRegistry, verifiedTokens, "verifiedTokens");
+        }
     }
 
     public String createAccessToken(String subject, Map<String, String> claims) {
@@ -36,22 +63,71 @@ public class JwtService {
                 .sign(algorithm);
     }
 
-    public String createRefreshToken(String subject) {
-        Instant now = Instant.now();
+    /**
+     * Refresh tokens carry their store id (`jti`) and token family so rotation needs no lookup; see `RefreshTokenService`.
+     */
+    public String createRefreshToken(String subject, String jti, String familyId, Instant issuedAt, Instant expiresAt) {
         return JWT.create()
                 .withIssuer(properties.getIssuer())
                 .withSubject(subject)
-                .withIssuedAt(now)
-                .withExpiresAt(now.plus(properties.getRefreshTokenTtl()))
+                .withJWTId(jti)
+                .withIssuedAt(issuedAt)
+                .withExpiresAt(expiresAt)
                 .withClaim("type", "REFRESH")
+                .withClaim("family", familyId)
                 .sign(algorithm);
     }
 
+    /**
+     * Verifies signature, issuer and expiry. A token seen before is served from the cache, keyed by its SHA-256
+     * digest, so only byte-identical tokens that already passed verification skip the HMAC check and decoding.
+     */
     public DecodedJWT verify(String token) {
-        return JWT.require(algorithm)
-                .withIssuer(properties.getIssuer())
-                .build()
-                .verify(token);
+        if (verifiedTokens == null) {
+            return verifier.verify(token);
+        }
+        String key = digest(token);
+        DecodedJWT cached = verifiedTokens.getIfPresent(key);
+        if (cached != null && cached.getExpiresAtAsInstant().isAfter(Instant.now())) {
+            return cached;
+        }
+        DecodedJWT decoded = verifier.verify(token);
+        if (decoded.getExpiresAtAsInstant() != null) {
+            // Tokens without an expiry are never cached; ours always carry one.
+            verifiedTokens.put(key, decoded);
+        }
+        return decoded;
     }
-}
 
+    private static String digest(String token) {
+        try {
+            byte[] hash = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.US_ASCII));
+            return Base64.getEncoder().encodeToString(hash);
+        } catch (NoSuchAlgorithmException impossible) {
+            // Every JRE is required to ship SHA-256.
+            throw new IllegalStateException(impossible);
+        }
+    }
+
+    /**
+     * Drops each cache entry at the moment its token stops being valid.
+     */
+    private static final class UntilTokenExpiry implements Expiry<String, DecodedJWT> {
+
+        @Override
+        public long expireAfterCreate(String key, DecodedJWT token, long currentTime) {
+            Duration remaining = Duration.between(Instant.now(), token.getExpiresAtAsInstant());
+            return Math.max(0, remaining.toNanos());
+        }
+
+        @Override
+        public long expireAfterUpdate(String key, DecodedJWT token, long currentTime, long currentDuration) {
+            return expireAfterCreate(key, token, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(String key, DecodedJWT token, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
+}
@@ -0,0 +1,20 @@
+package com.taskflow.taskflow.security;
+
+import java.time.Duration;
+
+/**
+ * Thrown when the password hashing queue is full; surfaced as 503 with `Retry-After`.
+ */
+public class PasswordHashingOverloadedException extends RuntimeException {
+
+    private final Duration retryAfter;
+
+    public PasswordHashingOverloadedException(Duration retryAfter) {
+        super("Too many sign-in attempts in progress, please retry shortly");
+        this.retryAfter = retryAfter;
+    }
+
+    public Duration getRetryAfter() {
+        return retryAfter;
+    }
+}
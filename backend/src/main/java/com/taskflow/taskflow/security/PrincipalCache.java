@@ -0,0 +1,63 @@
+package com.taskflow.taskflow.security;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.taskflow.taskflow.config.PrincipalCacheProperties;
+import com.taskflow.taskflow.user.UserAccountChangedEvent;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.Locale;
+
+/**
+ * Bounded, TTL-based cache of principals resolved from a JWT subject.
+ * Keeps the authentication hot path off the database; entries are evicted as soon as the account changes.
+ * Hit/miss/eviction counts are published as `cache.*` metrics tagged `cache=principals`.
+ */
+@Component
+public class PrincipalCache {
+
+    private final CustomUserDetailsService userDetailsService;
+    private final Cache<String, AuthenticatedUser> cache;
+
+    public PrincipalCache(CustomUserDetailsService userDetailsService,
+                          PrincipalCacheProperties properties,
+                          MeterRegistry meterRegistry) {
+        this.userDetailsService = userDetailsService;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(properties.getMaxSize())
+                .expireAfterWrite(properties.getTtl())
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "principals");
+    }
+
+    /**
+     * Returns the cached principal or loads it; a missing user is not cached and surfaces as `UsernameNotFoundException`.
+     */
+    public AuthenticatedUser get(String subject) {
+        return cache.get(key(subject), userDetailsService::loadPrincipal);
+    }
+
+    public void evict(String email) {
+        cache.invalidate(key(email));
+    }
+
+    public void evictAll() {
+        cache.invalidateAll();
+    }
+
+    /**
+     * Runs after the changing transaction commits so a concurrent request cannot re-cache the old state.
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onUserAccountChanged(UserAccountChangedEvent event) {
+        evict(event.email());
+    }
+
+    private static String key(String email) {
+        return email.toLowerCase(Locale.ROOT);
+    }
+}
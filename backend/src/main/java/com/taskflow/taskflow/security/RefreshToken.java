@@ -0,0 +1,47 @@
+package com.taskflow.taskflow.security;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.Instant;
+
+/**
+ * Server-side record of an issued refresh token, keyed by its `jti` claim.
+ * Tokens rotated from one login share a family; presenting an already-used token revokes the whole family.
+ */
+@Entity
+@Table(name = "refresh_tokens", indexes = {
+        @Index(name = "idx_refresh_tokens_family", columnList = "family_id"),
+        @Index(name = "idx_refresh_tokens_expires", columnList = "expires_at")
+})
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class RefreshToken {
+
+    @Id
+    @Column(length = 36)
+    private String jti;
+
+    @Column(name = "family_id", nullable = false, length = 36)
+    private String familyId;
+
+    @Column(nullable = false)
+    private String subject;
+
+    @Column(nullable = false)
+    private Instant issuedAt;
+
+    @Column(name = "expires_at", nullable = false)
+    private Instant expiresAt;
+
+    /** Set once the token has been exchanged (rotated) or explicitly revoked. */
+    @Column(nullable = false)
+    private boolean revoked;
+
+    /** The token issued in exchange for this one, if it was rotated. */
+    @Column(length = 36)
+    private String replacedBy;
+}
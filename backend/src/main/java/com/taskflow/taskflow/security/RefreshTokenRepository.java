@@ -0,0 +1,27 @@
+package com.taskflow.taskflow.security;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.Instant;
+
+public interface RefreshTokenRepository extends JpaRepository<RefreshToken, String> {
+
+    /**
+     * Consumes a live token in one conditional statement; 0 rows means it is unknown, expired or already used.
+     */
+    @Modifying
+    @Query("update RefreshToken t set t.revoked = true, t.replacedBy = :replacedBy "
+            + "where t.jti = :jti and t.revoked = false and t.expiresAt > :now")
+    int consume(@Param("jti") String jti, @Param("replacedBy") String replacedBy, @Param("now") Instant now);
+
+    @Modifying
+    @Query("update RefreshToken t set t.revoked = true where t.familyId = :familyId and t.revoked = false")
+    int revokeFamily(@Param("familyId") String familyId);
+
+    @Modifying
+    @Query("delete from RefreshToken t where t.expiresAt <= :now")
+    int deleteExpired(@Param("now") Instant now);
+}
@@ -0,0 +1,145 @@
+package com.taskflow.taskflow.security;
+
+import com.auth0.jwt.interfaces.DecodedJWT;
+import com.taskflow.taskflow.config.JwtProperties;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.persistence.EntityManager;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * Issues and rotates refresh tokens. Each token is single-use: exchanging it marks it used in one conditional UPDATE,
+ * and presenting a used token again is treated as theft, revoking every token descended from the same login.
+ * A valid refresh costs that UPDATE and the successor's INSERT; the stored row is only read when the UPDATE matches
+ * nothing, to tell a replay from an unknown or expired token.
+ */
+@Service
+public class RefreshTokenService {
+
+    private static final Logger log = LoggerFactory.getLogger(RefreshTokenService.class);
+
+    private final RefreshTokenRepository repository;
+    private final EntityManager entityManager;
+    private final JwtService jwtService;
+    private final JwtProperties jwtProperties;
+    private final TransactionTemplate transactionTemplate;
+    private final Counter reuseDetected;
+
+    public RefreshTokenService(RefreshTokenRepository repository,
+                               EntityManager entityManager,
+                               JwtService jwtService,
+                               JwtProperties jwtProperties,
+                               PlatformTransactionManager transactionManager,
+                               MeterRegistry meterRegistry) {
+        this.repository = repository;
+        this.entityManager = entityManager;
+        this.jwtService = jwtService;
+        this.jwtProperties = jwtProperties;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.reuseDetected = Counter.builder("refresh.tokens.reuse.detected")
+                .description("Already-used refresh tokens presented again; each revokes its token family")
+                .register(meterRegistry);
+    }
+
+    public record Rotation(String subject, String refreshToken) {
+    }
+
+    /**
+     * Starts a new token family, e.g. on login or registration.
+     */
+    @Transactional
+    public String issue(String subject) {
+        String jti = UUID.randomUUID().toString();
+        return store(subject, jti, jti);
+    }
+
+    /**
+     * Exchanges a refresh token for its successor. Reuse revocations are committed even though the call fails.
+     */
+    @Transactional(noRollbackFor = InvalidRefreshTokenException.class)
+    public Rotation rotate(String token) {
+        DecodedJWT decoded = decode(token);
+        String jti = decoded.getId();
+        String familyId = decoded.getClaim("family").asString();
+
+        String nextJti = UUID.randomUUID().toString();
+        if (repository.consume(jti, nextJti, Instant.now()) == 0) {
+            // Used, revoked, unknown or expired; only the first two are worth telling apart.
+            rejectIfRevoked(repository.findById(jti).orElse(null));
+            throw new InvalidRefreshTokenException("Refresh token is no longer valid");
+        }
+        return new Rotation(decoded.getSubject(), store(decoded.getSubject(), nextJti, familyId));
+    }
+
+    /**
+     * Ends the session the token belongs to; unknown or already revoked tokens are ignored.
+     */
+    @Transactional
+    public void revoke(String token) {
+        DecodedJWT decoded = decode(token);
+        repository.revokeFamily(decoded.getClaim("family").asString());
+    }
+
+    /**
+     * Drops expired rows; they fail verification anyway.
+     */
+    @Scheduled(cron = "${app.security.refresh-tokens.cleanup-cron}")
+    public void cleanUp() {
+        int deleted = transactionTemplate.execute(status -> repository.deleteExpired(Instant.now()));
+        log.info("Deleted {} expired refresh tokens", deleted);
+    }
+
+    private DecodedJWT decode(String token) {
+        DecodedJWT decoded;
+        try {
+            decoded = jwtService.verify(token);
+        } catch (RuntimeException verificationError) {
+            throw new InvalidRefreshTokenException("Refresh token is invalid or expired");
+        }
+        if (!"REFRESH".equals(decoded.getClaim("type").asString())
+                || decoded.getId() == null || decoded.getClaim("family").isMissing()) {
+            // Also rejects refresh tokens minted before rotation existed, which carry no id.
+            throw new InvalidRefreshTokenException("Not a refresh token");
+        }
+        return decoded;
+    }
+
+    private String store(String subject, String jti, String familyId) {
+        Instant now = Instant.now();
+        Instant expiresAt = now.plus(jwtProperties.getRefreshTokenTtl());
+        // persist rather than save: the id is assigned, and save would first SELECT to decide between insert and merge.
+        entityManager.persist(RefreshToken.builder()
+                .jti(jti)
+                .familyId(familyId)
+                .subject(subject)
+                .issuedAt(now)
+                .expiresAt(expiresAt)
+                .build());
+        return jwtService.createRefreshToken(subject, jti, familyId, now, expiresAt);
+    }
+
+    /**
+     * A token that was rotated before means a copy is being replayed; a token revoked by logout or an earlier
+     * reuse is simply dead.
+     */
+    private void rejectIfRevoked(RefreshToken stored) {
+        if (stored == null || !stored.isRevoked()) {
+            return;
+        }
+        if (stored.getReplacedBy() != null) {
+            reuseDetected.increment();
+            repository.revokeFamily(stored.getFamilyId());
+            throw new InvalidRefreshTokenException("Refresh token was already used");
+        }
+        throw new InvalidRefreshTokenException("Refresh token was revoked");
+    }
+}
@@ -0,0 +1,222 @@
+package com.taskflow.taskflow.seed;
+
+import com.taskflow.taskflow.config.SeedProperties;
+import com.taskflow.taskflow.task.TaskStatus;
+import com.taskflow.taskflow.user.UserRole;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.context.annotation.Profile;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * Writes a large synthetic dataset (`app.seed.*`) with production-like skew: project sizes, project ownership and comment
+ * threads all follow power laws, so a few projects hold most tasks and a few tasks carry very long threads.
+ *
+ * <p>Rows go straight through batched JDBC in fixed-size chunks, each chunk in its own transaction on one of
+ * `app.seed.threads` workers. Every chunk draws from a random generator derived only from the seed, the table and the chunk
+ * number, and every timestamp is relative to the fixed `app.seed.anchor`, so the same seed yields the same rows whatever
+ * the thread count or the day it runs. Ids are taken as one block past each sequence's current value and the sequence is
+ * moved past the block afterwards, so Hibernate keeps allocating clean ids.
+ * Board counters and the search index are built from these rows by their usual startup rebuilds.
+ *
+ * <p>Seeded users are `user{n}.s{seed}@seed.taskflow.dev` with password `changeme`; `user0` owns the most projects.
+ * Against PostgreSQL add `reWriteBatchedInserts=true` to the JDBC URL so each batch becomes one multi-row insert.
+ */
+@Component
+@Profile("seed")
+@Order(Ordered.LOWEST_PRECEDENCE)
+public class DatasetSeeder implements ApplicationRunner {
+
+    private static final Logger log = LoggerFactory.getLogger(DatasetSeeder.class);
+
+    private static final int CHUNK_SIZE = 10_000;
+    private static final int SEQUENCE_INCREMENT = 50;
+    private static final String SEEDED_PASSWORD = "changeme";
+
+    private final SeedProperties properties;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final PasswordEncoder passwordEncoder;
+
+    public DatasetSeeder(SeedProperties properties,
+                         JdbcTemplate jdbcTemplate,
+                         PlatformTransactionManager transactionManager,
+                         PasswordEncoder passwordEncoder) {
+        this.properties = properties;
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.passwordEncoder = passwordEncoder;
+    }
+
+    /**
+     * The id block reserved for one table's rows.
+     */
+    private record Table(String name, long firstId, long count) {
+    }
+
+    @FunctionalInterface
+    private interface RowWriter {
+        Object[] row(SplittableRandom random, long index, long id);
+    }
+
+    @Override
+    public void run(ApplicationArguments args) throws Exception {
+        if (properties.getUsers() <= 0 || properties.getProjects() <= 0) {
+            throw new IllegalStateException("app.seed.users and app.seed.projects must be positive");
+        }
+        Integer existing = jdbcTemplate.queryForObject("select count(*) from users where email = ?", Integer.class, email(0));
+        if (existing != null && existing > 0) {
+            log.info("Seed {} is already loaded; skipping", properties.getSeed());
+            return;
+        }
+
+        long started = System.nanoTime();
+        Instant anchor = properties.getAnchor();
+        LocalDate anchorDate = LocalDate.ofInstant(anchor, ZoneOffset.UTC);
+        String passwordHash = passwordEncoder.encode(SEEDED_PASSWORD);
+
+        Table users = reserve("users", properties.getUsers());
+        Table projects = reserve("projects", properties.getProjects());
+        Table tasks = reserve("tasks", properties.getTasks());
+        Table comments = reserve("task_comments", properties.getComments());
+
+        SkewedSampler owners = new SkewedSampler(users.count(), properties.getOwnerSkew());
+        SkewedSampler anyUser = new SkewedSampler(users.count(), 0);
+        SkewedSampler projectOf = new SkewedSampler(projects.count(), properties.getProjectSkew());
+        SkewedSampler taskOf = tasks.count() == 0 ? null : new SkewedSampler(tasks.count(), properties.getCommentSkew());
+
+        ExecutorService workers = Executors.newFixedThreadPool(Math.max(1, properties.getThreads()));
+        try {
+            write(workers, users, "insert into users (id, email, full_name, password_hash, created_at) values (?, ?, ?, ?, ?)",
+                    (random, index, id) -> new Object[]{id, email(index), SyntheticText.fullName(random), passwordHash,
+                            timestamp(anchor, random, 730)});
+            write(workers, new Table("user_roles", users.firstId(), users.count()),
+                    "insert into user_roles (user_id, role_name) values (?, ?)",
+                    (random, index, id) -> new Object[]{id, UserRole.MEMBER.name()});
+            write(workers, projects, "insert into projects (id, name, description, owner_id, created_at) values (?, ?, ?, ?, ?)",
+                    (random, index, id) -> new Object[]{id, SyntheticText.projectName(random, index),
+                            SyntheticText.paragraph(random, 2), users.firstId() + owners.next(random),
+                            timestamp(anchor, random, 365)});
+            write(workers, tasks, "insert into tasks (id, title, description, status, due_date, project_id, assignee_id, "
+                            + "created_at, updated_at) values (?, ?, ?, ?, ?, ?, ?, ?, ?)",
+                    (random, index, id) -> taskRow(random, id, anchor, anchorDate, projects, projectOf, users, anyUser));
+            if (taskOf != null) {
+                write(workers, comments, "insert into task_comments (id, body, author_id, task_id, created_at) values (?, ?, ?, ?, ?)",
+                        (random, index, id) -> new Object[]{id, SyntheticText.paragraph(random, 6),
+                                users.firstId() + anyUser.next(random), tasks.firstId() + taskOf.next(random),
+                                timestamp(anchor, random, 90)});
+            }
+        } finally {
+            workers.shutdownNow();
+        }
+
+        for (Table table : List.of(users, projects, tasks, comments)) {
+            advanceSequence(table);
+        }
+        long rows = users.count() * 2 + projects.count() + tasks.count() + (taskOf == null ? 0 : comments.count());
+        Duration elapsed = Duration.ofNanos(System.nanoTime() - started);
+        log.info("Seeded {} rows (seed {}) in {} s ({} rows/s)", rows, properties.getSeed(), elapsed.toSeconds(),
+                rows * 1000 / Math.max(1, elapsed.toMillis()));
+    }
+
+    private Object[] taskRow(SplittableRandom random, long id, Instant anchor, LocalDate anchorDate,
+                             Table projects, SkewedSampler projectOf, Table users, SkewedSampler anyUser) {
+        int roll = random.nextInt(100);
+        TaskStatus status = roll < 45 ? TaskStatus.DONE : roll < 65 ? TaskStatus.IN_PROGRESS : TaskStatus.BACKLOG;
+        Date dueDate = random.nextInt(100) < 70 ? Date.valueOf(anchorDate.plusDays(random.nextInt(-30, 91))) : null;
+        Long assignee = random.nextInt(100) < 80 ? users.firstId() + anyUser.next(random) : null;
+        Timestamp createdAt = timestamp(anchor, random, 180);
+        Timestamp updatedAt = Timestamp.from(createdAt.toInstant().plusSeconds(
+                random.nextLong(Duration.between(createdAt.toInstant(), anchor).getSeconds() + 1)));
+        return new Object[]{id, SyntheticText.taskTitle(random), SyntheticText.paragraph(random, 3), status.name(), dueDate,
+                projects.firstId() + projectOf.next(random), assignee, createdAt, updatedAt};
+    }
+
+    /**
+     * Splits the table into chunks, writes them in parallel and waits for all of them; the first failure aborts the run.
+     */
+    private void write(ExecutorService workers, Table table, String sql, RowWriter writer)
+            throws InterruptedException, ExecutionException {
+        long started = System.nanoTime();
+        long chunks = (table.count() + CHUNK_SIZE - 1) / CHUNK_SIZE;
+        List<Future<?>> pending = new ArrayList<>();
+        for (long chunk = 0; chunk < chunks; chunk++) {
+            long from = chunk * CHUNK_SIZE;
+            long to = Math.min(table.count(), from + CHUNK_SIZE);
+            SplittableRandom random = new SplittableRandom(mix(properties.getSeed(), table.name().hashCode(), chunk));
+            pending.add(workers.submit(() -> writeChunk(table, sql, writer, random, from, to)));
+        }
+        for (Future<?> future : pending) {
+            future.get();
+        }
+        log.info("Seeded {} {} rows in {} ms", table.count(), table.name(), (System.nanoTime() - started) / 1_000_000);
+    }
+
+    private void writeChunk(Table table, String sql, RowWriter writer, SplittableRandom random, long from, long to) {
+        List<Object[]> rows = new ArrayList<>((int) (to - from));
+        for (long index = from; index < to; index++) {
+            rows.add(writer.row(random, index, table.firstId() + index));
+        }
+        transactionTemplate.executeWithoutResult(status ->
+                jdbcTemplate.batchUpdate(sql, rows, properties.getBatchSize(), (ps, row) -> {
+                    for (int i = 0; i < row.length; i++) {
+                        ps.setObject(i + 1, row[i]);
+                    }
+                }));
+    }
+
+    /**
+     * Claims ids above anything Hibernate may already hold in its pooled block: its blocks end at the last value it fetched,
+     * which is below the value fetched here.
+     */
+    private Table reserve(String table, long count) {
+        Long current = jdbcTemplate.queryForObject("select nextval('" + table + "_seq')", Long.class);
+        return new Table(table, current + 1, count);
+    }
+
+    /**
+     * With the pooled optimizer a fetched value `v` hands out `v - 49 .. v`, so the next value must be a full increment past
+     * the seeded block.
+     */
+    private void advanceSequence(Table table) {
+        long restartWith = table.firstId() + table.count() + SEQUENCE_INCREMENT;
+        jdbcTemplate.execute("alter sequence " + table.name() + "_seq restart with " + restartWith);
+    }
+
+    private String email(long index) {
+        return "user" + index + ".s" + properties.getSeed() + "@seed.taskflow.dev";
+    }
+
+    private static Timestamp timestamp(Instant anchor, SplittableRandom random, int maxDaysBack) {
+        return Timestamp.from(anchor.minusSeconds(random.nextLong(maxDaysBack * 86_400L)));
+    }
+
+    private static long mix(long seed, long table, long chunk) {
+        long z = seed * 0x9E3779B97F4A7C15L + table * 0xBF58476D1CE4E5B9L + chunk;
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+}
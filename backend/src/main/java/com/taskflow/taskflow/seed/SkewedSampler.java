@@ -0,0 +1,51 @@
+package com.taskflow.taskflow.seed;
+
+import java.util.SplittableRandom;
+
+/**
+ * Draws indexes in `[0, size)` from a Zipf-like power law, so a handful of indexes receive most of the draws.
+ * Uses the continuous inverse CDF, which needs no per-index table and so works for tens of millions of targets.
+ * Ranks are scattered over the index range by a fixed stride, otherwise the heavy hitters would all be the lowest ids.
+ */
+final class SkewedSampler {
+
+    private final long size;
+    private final double exponent;
+    private final long stride;
+
+    SkewedSampler(long size, double exponent) {
+        if (size <= 0) {
+            throw new IllegalArgumentException("Cannot sample from an empty range");
+        }
+        this.size = size;
+        this.exponent = exponent;
+        this.stride = coprimeStride(size);
+    }
+
+    long next(SplittableRandom random) {
+        double u = random.nextDouble();
+        double rank;
+        if (exponent == 0) {
+            rank = 1 + u * (size - 1);
+        } else if (Math.abs(exponent - 1) < 1e-9) {
+            rank = Math.pow(size, u);
+        } else {
+            double oneMinus = 1 - exponent;
+            rank = Math.pow((Math.pow(size, oneMinus) - 1) * u + 1, 1 / oneMinus);
+        }
+        long zeroBased = Math.min(size - 1, Math.max(0, (long) rank - 1));
+        return Math.floorMod(zeroBased * stride, size);
+    }
+
+    private static long coprimeStride(long size) {
+        long candidate = 2_654_435_761L % size;
+        while (candidate < 1 || gcd(candidate, size) != 1) {
+            candidate = candidate + 1 >= size ? 1 : candidate + 1;
+        }
+        return candidate;
+    }
+
+    private static long gcd(long a, long b) {
+        return b == 0 ? a : gcd(b, a % b);
+    }
+}
@@ -0,0 +1,76 @@
+package com.taskflow.taskflow.seed;
+
+import java.util.SplittableRandom;
+
+/**
+ * Word-list based titles, descriptions and comments; short, varied and cheap to generate.
+ */
+final class SyntheticText {
+
+    private static final String[] VERBS = {"Fix", "Add", "Refactor", "Investigate", "Document", "Remove", "Migrate",
+            "Review", "Update", "Design", "Test", "Optimise", "Deploy", "Triage", "Automate"};
+    private static final String[] SUBJECTS = {"login flow", "billing page", "search results", "export job",
+            "notification emails", "dashboard charts", "mobile layout", "API rate limits", "audit log", "onboarding wizard",
+            "settings screen", "file uploads", "webhook retries", "invoice PDF", "password reset", "team invites",
+            "date picker", "CSV import", "dark mode", "error pages"};
+    private static final String[] QUALIFIERS = {"", "", "", " for enterprise plans", " on Safari", " after the redesign",
+            " behind a feature flag", " for the Q3 release", " in staging", " for new customers"};
+    private static final String[] PROJECT_NOUNS = {"Platform", "Website", "Mobile App", "Billing", "Growth",
+            "Infrastructure", "Data Pipeline", "Support Portal", "Design System", "Partner API"};
+    private static final String[] PROJECT_ADJECTIVES = {"Core", "Next", "Legacy", "Internal", "Public", "Shared",
+            "Experimental", "Global"};
+    private static final String[] SENTENCES = {
+            "Customers reported this twice last week.",
+            "Reproduced locally with the latest build.",
+            "Blocked until the upstream change lands.",
+            "Pairing on this tomorrow morning.",
+            "The previous fix only covered the happy path.",
+            "Added screenshots and steps to reproduce.",
+            "This should be behind the rollout flag.",
+            "Can we split this into two smaller tickets?",
+            "Looks good to me, merging after CI passes.",
+            "Moved to the next sprint because of the incident.",
+            "Latency regressed by about 20% on the p99.",
+            "Design signed off on the latest mockups.",
+            "Needs a migration for existing records.",
+            "QA found an edge case with empty lists.",
+            "Closing the loop with support on this one."};
+    private static final String[] FIRST_NAMES = {"Ava", "Noah", "Mia", "Liam", "Zoe", "Arjun", "Sofia", "Kenji",
+            "Amara", "Lucas", "Priya", "Mateo", "Hana", "Omar", "Elena", "Tariq"};
+    private static final String[] LAST_NAMES = {"Patel", "Garcia", "Kim", "Okafor", "Novak", "Silva", "Chen",
+            "Haddad", "Larsen", "Moreau", "Ivanova", "Mensah"};
+
+    private SyntheticText() {
+    }
+
+    static String fullName(SplittableRandom random) {
+        return pick(random, FIRST_NAMES) + " " + pick(random, LAST_NAMES);
+    }
+
+    static String projectName(SplittableRandom random, long index) {
+        return pick(random, PROJECT_ADJECTIVES) + " " + pick(random, PROJECT_NOUNS) + " #" + index;
+    }
+
+    static String taskTitle(SplittableRandom random) {
+        return pick(random, VERBS) + " " + pick(random, SUBJECTS) + pick(random, QUALIFIERS);
+    }
+
+    /**
+     * One to `maxSentences` sentences; the caller keeps it under the column length.
+     */
+    static String paragraph(SplittableRandom random, int maxSentences) {
+        int sentences = 1 + random.nextInt(maxSentences);
+        StringBuilder text = new StringBuilder();
+        for (int i = 0; i < sentences; i++) {
+            if (i > 0) {
+                text.append(' ');
+            }
+            text.append(pick(random, SENTENCES));
+        }
+        return text.toString();
+    }
+
+    private static String pick(SplittableRandom random, String[] words) {
+        return words[random.nextInt(words.length)];
+    }
+}
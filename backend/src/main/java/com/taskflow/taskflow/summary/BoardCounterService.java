@@ -0,0 +1,220 @@
+package com.taskflow.taskflow.summary;
+
+import com.taskflow.taskflow.project.ProjectDeletedEvent;
+import com.taskflow.taskflow.task.TaskChangedEvent;
+import com.taskflow.taskflow.task.TaskStatus;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Date;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Maintains `project_status_counters` and `project_due_counters` from task events.
+ * Deltas are summed per transaction and written just before it commits, so a chunk of imported rows costs a few batched
+ * statements and the counters commit or roll back together with the tasks.
+ */
+@Service
+public class BoardCounterService {
+
+    private static final Logger log = LoggerFactory.getLogger(BoardCounterService.class);
+
+    private static final String PENDING_DELTAS = BoardCounterService.class.getName() + ".pendingDeltas";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+
+    public BoardCounterService(JdbcTemplate jdbcTemplate, PlatformTransactionManager transactionManager) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    record StatusKey(Long projectId, TaskStatus status) {
+    }
+
+    record DueKey(Long projectId, LocalDate dueDate) {
+    }
+
+    /**
+     * Net counter changes of one transaction. Keys are sorted so concurrent transactions lock counter rows in the same order.
+     */
+    static final class Deltas {
+        final Map<StatusKey, Long> byStatus = new TreeMap<>(
+                Comparator.comparing(StatusKey::projectId).thenComparing(StatusKey::status));
+        final Map<DueKey, Long> byDueDate = new TreeMap<>(
+                Comparator.comparing(DueKey::projectId).thenComparing(DueKey::dueDate));
+
+        void add(Long projectId, TaskStatus status, LocalDate dueDate, long delta) {
+            if (status == null) {
+                return;
+            }
+            byStatus.merge(new StatusKey(projectId, status), delta, Long::sum);
+            if (dueDate != null && status != TaskStatus.DONE) {
+                byDueDate.merge(new DueKey(projectId, dueDate), delta, Long::sum);
+            }
+        }
+    }
+
+    /**
+     * Runs inside the publishing transaction (not after commit) so counters can never drift from a committed task change.
+     */
+    @EventListener
+    public void onTaskChanged(TaskChangedEvent event) {
+        switch (event.kind()) {
+            case TASK_CREATED -> pendingDeltas().add(event.projectId(), event.task().status(), event.task().dueDate(), 1);
+            case TASK_UPDATED -> {
+                Deltas deltas = pendingDeltas();
+                deltas.add(event.projectId(), event.previousStatus(), event.previousDueDate(), -1);
+                deltas.add(event.projectId(), event.task().status(), event.task().dueDate(), 1);
+            }
+            case TASK_DELETED -> pendingDeltas().add(event.projectId(), event.previousStatus(), event.previousDueDate(), -1);
+            case COMMENT_ADDED -> {
+            }
+        }
+    }
+
+    @EventListener
+    public void onProjectDeleted(ProjectDeletedEvent event) {
+        jdbcTemplate.update("delete from project_status_counters where project_id = ?", event.projectId());
+        jdbcTemplate.update("delete from project_due_counters where project_id = ?", event.projectId());
+    }
+
+    /**
+     * Rebuilds every counter from one GROUP BY over `tasks`, repairing any drift (for example rows written by other tools).
+     * Task writers stall on their counter deltas while it runs, so none is lost; see {@link #rebuild()}.
+     */
+    @Scheduled(cron = "${app.board-counters.reconcile-cron}")
+    public void reconcile() {
+        transactionTemplate.executeWithoutResult(status -> rebuild());
+    }
+
+    private void rebuild() {
+        long started = System.nanoTime();
+        lockCounterTables();
+        Deltas totals = new Deltas();
+        jdbcTemplate.query("select project_id, status, due_date, count(*) from tasks group by project_id, status, due_date",
+                rs -> {
+                    Date dueDate = rs.getDate(3);
+                    totals.add(rs.getLong(1), TaskStatus.valueOf(rs.getString(2)),
+                            dueDate == null ? null : dueDate.toLocalDate(), rs.getLong(4));
+                });
+
+        jdbcTemplate.update("delete from project_status_counters");
+        jdbcTemplate.update("delete from project_due_counters");
+        List<Object[]> statusRows = new ArrayList<>();
+        totals.byStatus.forEach((key, count) -> statusRows.add(new Object[]{key.projectId(), key.status().name(), count}));
+        jdbcTemplate.batchUpdate("insert into project_status_counters (project_id, status, task_count) values (?, ?, ?)", statusRows);
+        List<Object[]> dueRows = new ArrayList<>();
+        totals.byDueDate.forEach((key, count) -> dueRows.add(new Object[]{key.projectId(), Date.valueOf(key.dueDate()), count}));
+        jdbcTemplate.batchUpdate("insert into project_due_counters (project_id, due_date, open_count) values (?, ?, ?)", dueRows);
+        log.info("Rebuilt board counters ({} status rows, {} due-date rows) in {} ms",
+                statusRows.size(), dueRows.size(), (System.nanoTime() - started) / 1_000_000);
+    }
+
+    /**
+     * Taken before the read, the exclusive lock blocks every writer's delta until the rebuild commits. A writer that
+     * committed earlier is in the GROUP BY, and one that commits later applies its delta to the rebuilt rows. Without the
+     * lock, a delta committed between the read and the delete was wiped out. Reads of the counters are not blocked, and
+     * tables are locked in the order {@link #apply} writes them, so the lock cannot deadlock with a writer.
+     * H2 (local runs and tests) has no table locks; its database lives and dies with this process, whose rebuilds run at
+     * startup before traffic and at night.
+     */
+    private void lockCounterTables() {
+        String database = jdbcTemplate.execute(
+                (ConnectionCallback<String>) connection -> connection.getMetaData().getDatabaseProductName());
+        if ("PostgreSQL".equals(database)) {
+            jdbcTemplate.execute("lock table project_status_counters, project_due_counters in exclusive mode");
+        }
+    }
+
+    /**
+     * Counter tables may be new or stale after a deploy, so they are rebuilt once before traffic relies on them.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void reconcileOnStartup() {
+        reconcile();
+    }
+
+    private Deltas pendingDeltas() {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            throw new IllegalStateException("Task changes must be published inside a transaction");
+        }
+        Deltas deltas = (Deltas) TransactionSynchronizationManager.getResource(PENDING_DELTAS);
+        if (deltas == null) {
+            Deltas created = new Deltas();
+            TransactionSynchronizationManager.bindResource(PENDING_DELTAS, created);
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void beforeCommit(boolean readOnly) {
+                    apply(created);
+                }
+
+                @Override
+                public void afterCompletion(int status) {
+                    TransactionSynchronizationManager.unbindResourceIfPossible(PENDING_DELTAS);
+                }
+            });
+            deltas = created;
+        }
+        return deltas;
+    }
+
+    /**
+     * Creates missing rows first (a no-op when they exist), then adds the deltas; emptied due-date rows are removed.
+     */
+    private void apply(Deltas deltas) {
+        List<Object[]> statusKeys = new ArrayList<>();
+        List<Object[]> statusUpdates = new ArrayList<>();
+        deltas.byStatus.forEach((key, delta) -> {
+            if (delta != 0) {
+                statusKeys.add(new Object[]{key.projectId(), key.status().name()});
+                statusUpdates.add(new Object[]{delta, key.projectId(), key.status().name()});
+            }
+        });
+        if (!statusKeys.isEmpty()) {
+            jdbcTemplate.batchUpdate("insert into project_status_counters (project_id, status, task_count) values (?, ?, 0) "
+                    + "on conflict do nothing", statusKeys);
+            jdbcTemplate.batchUpdate("update project_status_counters set task_count = task_count + ? "
+                    + "where project_id = ? and status = ?", statusUpdates);
+        }
+
+        List<Object[]> dueKeys = new ArrayList<>();
+        List<Object[]> dueUpdates = new ArrayList<>();
+        List<Object[]> dueDecrements = new ArrayList<>();
+        deltas.byDueDate.forEach((key, delta) -> {
+            if (delta != 0) {
+                Date dueDate = Date.valueOf(key.dueDate());
+                dueKeys.add(new Object[]{key.projectId(), dueDate});
+                dueUpdates.add(new Object[]{delta, key.projectId(), dueDate});
+                if (delta < 0) {
+                    dueDecrements.add(new Object[]{key.projectId(), dueDate});
+                }
+            }
+        });
+        if (!dueKeys.isEmpty()) {
+            jdbcTemplate.batchUpdate("insert into project_due_counters (project_id, due_date, open_count) values (?, ?, 0) "
+                    + "on conflict do nothing", dueKeys);
+            jdbcTemplate.batchUpdate("update project_due_counters set open_count = open_count + ? "
+                    + "where project_id = ? and due_date = ?", dueUpdates);
+        }
+        if (!dueDecrements.isEmpty()) {
+            jdbcTemplate.batchUpdate("delete from project_due_counters where project_id = ? and due_date = ? and open_count <= 0",
+                    dueDecrements);
+        }
+    }
+}
@@ -0,0 +1,40 @@
+package com.taskflow.taskflow.summary;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.io.Serializable;
+import java.time.LocalDate;
+
+/**
+ * Number of open (not done) tasks of a project due on one date.
+ * Overdue counts and the next due date are range reads over these rows, so they stay correct as the calendar moves on.
+ */
+@Entity
+@Table(name = "project_due_counters")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class ProjectDueCounter {
+
+    @EmbeddedId
+    private Key key;
+
+    @Column(nullable = false)
+    private long openCount;
+
+    @Embeddable
+    @Getter
+    @Setter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @EqualsAndHashCode
+    public static class Key implements Serializable {
+
+        @Column(name = "project_id")
+        private Long projectId;
+
+        private LocalDate dueDate;
+    }
+}
@@ -0,0 +1,19 @@
+package com.taskflow.taskflow.summary;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDate;
+import java.util.List;
+
+public interface ProjectDueCounterRepository extends JpaRepository<ProjectDueCounter, ProjectDueCounter.Key> {
+
+    /**
+     * Returns a single `[overdueCount, nextDueDate]` row for open tasks, reading only the project's due-date rows.
+     */
+    @Query("select coalesce(sum(case when c.key.dueDate < :today then c.openCount else 0 end), 0), "
+            + "min(case when c.key.dueDate >= :today then c.key.dueDate end) "
+            + "from ProjectDueCounter c where c.key.projectId = :projectId and c.openCount > 0")
+    List<Object[]> summarizeDueDates(@Param("projectId") Long projectId, @Param("today") LocalDate today);
+}
@@ -0,0 +1,41 @@
+package com.taskflow.taskflow.summary;
+
+import com.taskflow.taskflow.task.TaskStatus;
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.io.Serializable;
+
+/**
+ * Number of tasks a project has in one status, kept current by {@link BoardCounterService}.
+ */
+@Entity
+@Table(name = "project_status_counters")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class ProjectStatusCounter {
+
+    @EmbeddedId
+    private Key key;
+
+    @Column(nullable = false)
+    private long taskCount;
+
+    @Embeddable
+    @Getter
+    @Setter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @EqualsAndHashCode
+    public static class Key implements Serializable {
+
+        @Column(name = "project_id")
+        private Long projectId;
+
+        @Enumerated(EnumType.STRING)
+        @Column(length = 32)
+        private TaskStatus status;
+    }
+}
@@ -0,0 +1,13 @@
+package com.taskflow.taskflow.summary;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.List;
+
+public interface ProjectStatusCounterRepository extends JpaRepository<ProjectStatusCounter, ProjectStatusCounter.Key> {
+
+    @Query("select c from ProjectStatusCounter c where c.key.projectId = :projectId")
+    List<ProjectStatusCounter> findByProjectId(@Param("projectId") Long projectId);
+}
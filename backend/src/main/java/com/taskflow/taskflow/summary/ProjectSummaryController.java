@@ -0,0 +1,29 @@
+package com.taskflow.taskflow.summary;
+
+import com.taskflow.taskflow.summary.dto.ProjectSummaryDto;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * Lightweight board overview under `/api/projects/{projectId}/summary`.
+ */
+@RestController
+@RequestMapping("/api/projects")
+public class ProjectSummaryController {
+
+    private final ProjectSummaryService projectSummaryService;
+
+    public ProjectSummaryController(ProjectSummaryService projectSummaryService) {
+        this.projectSummaryService = projectSummaryService;
+    }
+
+    /**
+     * Task counts per status, overdue open tasks and the next upcoming due date.
+     */
+    @GetMapping("/{projectId}/summary")
+    public ProjectSummaryDto getSummary(@PathVariable("projectId") Long projectId) {
+        return projectSummaryService.getSummary(projectId);
+    }
+}
@@ -0,0 +1,50 @@
+package com.taskflow.taskflow.summary;
+
+import com.taskflow.taskflow.project.ProjectAccessGuard;
+import com.taskflow.taskflow.summary.dto.ProjectSummaryDto;
+import com.taskflow.taskflow.task.TaskStatus;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * Reads project overviews from the board counters: a fixed number of small indexed reads regardless of task count.
+ */
+@Service
+public class ProjectSummaryService {
+
+    private final ProjectStatusCounterRepository statusCounterRepository;
+    private final ProjectDueCounterRepository dueCounterRepository;
+    private final ProjectAccessGuard accessGuard;
+
+    public ProjectSummaryService(ProjectStatusCounterRepository statusCounterRepository,
+                                 ProjectDueCounterRepository dueCounterRepository,
+                                 ProjectAccessGuard accessGuard) {
+        this.statusCounterRepository = statusCounterRepository;
+        this.dueCounterRepository = dueCounterRepository;
+        this.accessGuard = accessGuard;
+    }
+
+    @Transactional(readOnly = true)
+    public ProjectSummaryDto getSummary(Long projectId) {
+        accessGuard.requireProject(projectId);
+
+        Map<TaskStatus, Long> byStatus = new EnumMap<>(TaskStatus.class);
+        for (TaskStatus status : TaskStatus.values()) {
+            byStatus.put(status, 0L);
+        }
+        long total = 0;
+        for (ProjectStatusCounter counter : statusCounterRepository.findByProjectId(projectId)) {
+            byStatus.put(counter.getKey().getStatus(), counter.getTaskCount());
+            total += counter.getTaskCount();
+        }
+
+        Object[] due = dueCounterRepository.summarizeDueDates(projectId, LocalDate.now()).get(0);
+        long overdue = ((Number) due[0]).longValue();
+        LocalDate nextDueDate = (LocalDate) due[1];
+        return new ProjectSummaryDto(projectId, byStatus, total, overdue, nextDueDate);
+    }
+}
@@ -0,0 +1,18 @@
+package com.taskflow.taskflow.summary.dto;
+
+import com.taskflow.taskflow.task.TaskStatus;
+
+import java.time.LocalDate;
+import java.util.Map;
+
+/**
+ * Board overview for one project, served from counters rather than by loading tasks.
+ */
+public record ProjectSummaryDto(
+        Long projectId,
+        Map<TaskStatus, Long> tasksByStatus,
+        long totalTasks,
+        long overdueTasks,
+        LocalDate nextDueDate
+) {
+}
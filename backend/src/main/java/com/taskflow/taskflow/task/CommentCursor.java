@@ -0,0 +1,35 @@
+package com.taskflow.taskflow.task;
+
+import com.taskflow.taskflow.comment.TaskComment;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.Base64;
+
+/**
+ * Keyset position inside a comment thread: the last comment's creation time plus its id.
+ * Encoded the same way as `TaskCursor`, so clients treat both as opaque tokens.
+ */
+record CommentCursor(Instant createdAt, Long id) {
+
+    static CommentCursor after(TaskComment last) {
+        return new CommentCursor(last.getCreatedAt(), last.getId());
+    }
+
+    static CommentCursor decode(String token) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            String[] parts = raw.split("\\|", -1);
+            return new CommentCursor(Instant.parse(parts[0]), Long.parseLong(parts[1]));
+        } catch (RuntimeException malformed) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Invalid cursor");
+        }
+    }
+
+    String encode() {
+        String raw = createdAt + "|" + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+}
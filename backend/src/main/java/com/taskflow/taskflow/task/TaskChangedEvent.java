@@ -0,0 +1,45 @@
+package com.taskflow.taskflow.task;
+
+import com.taskflow.taskflow.comment.dto.TaskCommentDto;
+import com.taskflow.taskflow.task.dto.TaskDto;
+
+import java.time.LocalDate;
+
+/**
+ * Published by the task write paths for every task or comment change.
+ * Carries DTO snapshots rather than entities so listeners running after commit never touch a closed session.
+ * Updates and deletes also carry the status and due date the task had before, for listeners that maintain deltas.
+ */
+public record TaskChangedEvent(
+        Kind kind,
+        Long projectId,
+        Long taskId,
+        TaskDto task,
+        TaskStatus previousStatus,
+        LocalDate previousDueDate,
+        TaskCommentDto comment
+) {
+
+    public enum Kind {
+        TASK_CREATED,
+        TASK_UPDATED,
+        TASK_DELETED,
+        COMMENT_ADDED
+    }
+
+    public static TaskChangedEvent created(Long projectId, TaskDto task) {
+        return new TaskChangedEvent(Kind.TASK_CREATED, projectId, task.id(), task, null, null, null);
+    }
+
+    public static TaskChangedEvent updated(Long projectId, TaskDto task, TaskStatus previousStatus, LocalDate previousDueDate) {
+        return new TaskChangedEvent(Kind.TASK_UPDATED, projectId, task.id(), task, previousStatus, previousDueDate, null);
+    }
+
+    public static TaskChangedEvent deleted(Long projectId, Long taskId, TaskStatus status, LocalDate dueDate) {
+        return new TaskChangedEvent(Kind.TASK_DELETED, projectId, taskId, null, status, dueDate, null);
+    }
+
+    public static TaskChangedEvent commentAdded(Long projectId, Long taskId, TaskCommentDto comment) {
+        return new TaskChangedEvent(Kind.COMMENT_ADDED, projectId, taskId, null, null, null, comment);
+    }
+}
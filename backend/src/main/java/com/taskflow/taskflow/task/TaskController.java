@@ -1,18 +1,33 @@
 package com.taskflow.taskflow.task;
 
+import com.taskflow.taskflow.comment.dto.CommentListQuery;
 import com.taskflow.taskflow.comment.dto.CreateCommentRequest;
 import com.taskflow.taskflow.comment.dto.TaskCommentDto;
+import com.taskflow.taskflow.common.CursorPage;
+import com.taskflow.taskflow.common.IfMatch;
+import com.taskflow.taskflow.common.Negotiation;
 import com.taskflow.taskflow.common.SecurityUtils;
+import com.taskflow.taskflow.common.SparseFields;
+import com.taskflow.taskflow.project.ProjectAccessGuard;
+import com.taskflow.taskflow.project.ProjectVersionService;
 import com.taskflow.taskflow.task.dto.CreateTaskRequest;
+import com.taskflow.taskflow.task.dto.TaskImportReport;
 import com.taskflow.taskflow.task.dto.TaskDto;
+import com.taskflow.taskflow.task.dto.TaskListQuery;
 import com.taskflow.taskflow.task.dto.UpdateTaskRequest;
 import com.taskflow.taskflow.task.dto.UpdateTaskStatusRequest;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
-import java.util.List;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.zip.GZIPOutputStream;
 
 /**
  * REST endpoints under `/api/projects/{projectId}/tasks` and `/api/tasks` for additional operations.
@@ -22,14 +37,40 @@ import java.util.List;
 public class TaskController {
 
     private final TaskService taskService;
+    private final TaskImportService taskImportService;
+    private final TaskExportService taskExportService;
+    private final ProjectAccessGuard accessGuard;
+    private final ProjectVersionService versionService;
 
-    public TaskController(TaskService taskService) {
+    public TaskController(TaskService taskService,
+                          TaskImportService taskImportService,
+                          TaskExportService taskExportService,
+                          ProjectAccessGuard accessGuard,
+                          ProjectVersionService versionService) {
         this.taskService = taskService;
+        this.taskImportService = taskImportService;
+        this.taskExportService = taskExportService;
+        this.accessGuard = accessGuard;
+        this.versionService = versionService;
     }
 
+    /**
+     * Pages through a project's tasks; pass the returned `nextCursor` back as `cursor` to continue.
+     * With `fields=` each item carries only the named properties. The ETag covers the query string and `Accept`, so
+     * each filter/page/fieldset/format combination revalidates independently.
+     */
     @GetMapping("/projects/{projectId}/tasks")
-    public List<TaskDto> list(@PathVariable("projectId") Long projectId) {
-        return taskService.listTasks(projectId);
+    public CursorPage<?> list(@PathVariable("projectId") Long projectId,
+                                    @Valid TaskListQuery query,
+                                    HttpServletRequest request,
+                                    WebRequest webRequest) {
+        if (webRequest.checkNotModified(versionService.projectEtag(projectId, Negotiation.etagVariant(request)))) {
+            return null;
+        }
+        if (query.fields() != null) {
+            return taskService.listTaskFields(projectId, query, SparseFields.parse(query.fields(), TaskField.class));
+        }
+        return taskService.listTasks(projectId, query);
     }
 
     @PostMapping("/projects/{projectId}/tasks")
@@ -40,16 +81,60 @@ public class TaskController {
         return ResponseEntity.status(HttpStatus.CREATED).body(task);
     }
 
+    /**
+     * Bulk-creates tasks from an NDJSON (one `CreateTaskRequest` per line) or CSV (header row first) body.
+     * Bad rows are skipped and listed in the report rather than failing the whole upload.
+     */
+    @PostMapping(value = "/projects/{projectId}/tasks/import", consumes = {"application/x-ndjson", "text/csv"})
+    public TaskImportReport importTasks(@PathVariable("projectId") Long projectId,
+                                        @RequestHeader(HttpHeaders.CONTENT_TYPE) String contentType,
+                                        InputStream body) throws IOException {
+        return taskImportService.importTasks(projectId, TaskDataFormat.fromContentType(contentType), body);
+    }
+
+    /**
+     * Streams all of a project's tasks as CSV or NDJSON, optionally gzip-compressed.
+     * Access is checked before any header is written so a 404 is still a clean JSON error.
+     */
+    @GetMapping("/projects/{projectId}/tasks/export")
+    public void exportTasks(@PathVariable("projectId") Long projectId,
+                            @RequestParam(value = "format", defaultValue = "csv") String format,
+                            @RequestParam(value = "gzip", defaultValue = "false") boolean gzip,
+                            HttpServletResponse response) throws IOException {
+        TaskDataFormat exportFormat = TaskDataFormat.fromExtension(format);
+        accessGuard.requireProject(projectId);
+
+        String filename = "project-" + projectId + "-tasks." + exportFormat.extension() + (gzip ? ".gz" : "");
+        response.setContentType(exportFormat.mediaType().toString() + ";charset=UTF-8");
+        response.setHeader(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"" + filename + "\"");
+        if (gzip) {
+            response.setHeader(HttpHeaders.CONTENT_ENCODING, "gzip");
+            try (GZIPOutputStream out = new GZIPOutputStream(response.getOutputStream(), 64 * 1024)) {
+                taskExportService.export(projectId, exportFormat, out);
+            }
+        } else {
+            taskExportService.export(projectId, exportFormat, response.getOutputStream());
+        }
+    }
+
+    /**
+     * With `If-Match: "<version>"` the change applies only to that version of the task (412 otherwise).
+     * The response's ETag is the new version tag; the weak ETag of a GET is a cache validator and is not accepted here.
+     */
     @PatchMapping("/tasks/{taskId}/status")
-    public TaskDto updateStatus(@PathVariable("taskId") Long taskId,
-                                @Valid @RequestBody UpdateTaskStatusRequest request) {
-        return taskService.updateStatus(taskId, request);
+    public ResponseEntity<TaskDto> updateStatus(@PathVariable("taskId") Long taskId,
+                                                @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch,
+                                                @Valid @RequestBody UpdateTaskStatusRequest request) {
+        TaskDto task = taskService.updateStatus(taskId, request, IfMatch.expectedVersion(ifMatch));
+        return ResponseEntity.ok().eTag(IfMatch.etag(task.version())).body(task);
     }
 
     @PutMapping("/tasks/{taskId}")
-    public TaskDto updateTask(@PathVariable("taskId") Long taskId,
-                              @Valid @RequestBody UpdateTaskRequest request) {
-        return taskService.updateTask(taskId, request);
+    public ResponseEntity<TaskDto> updateTask(@PathVariable("taskId") Long taskId,
+                                              @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch,
+                                              @Valid @RequestBody UpdateTaskRequest request) {
+        TaskDto task = taskService.updateTask(taskId, request, IfMatch.expectedVersion(ifMatch));
+        return ResponseEntity.ok().eTag(IfMatch.etag(task.version())).body(task);
     }
 
     @DeleteMapping("/tasks/{taskId}")
@@ -58,9 +143,18 @@ public class TaskController {
         taskService.deleteTask(taskId);
     }
 
+    /**
+     * Pages through a task's comments oldest first; pass the returned `nextCursor` back as `cursor` to continue.
+     */
     @GetMapping("/tasks/{taskId}/comments")
-    public List<TaskCommentDto> comments(@PathVariable("taskId") Long taskId) {
-        return taskService.listComments(taskId);
+    public CursorPage<TaskCommentDto> comments(@PathVariable("taskId") Long taskId,
+                                               @Valid CommentListQuery query,
+                                               HttpServletRequest request,
+                                               WebRequest webRequest) {
+        if (webRequest.checkNotModified(versionService.taskEtag(taskId, Negotiation.etagVariant(request)))) {
+            return null;
+        }
+        return taskService.listComments(taskId, query);
     }
 
     @PostMapping("/tasks/{taskId}/comments")
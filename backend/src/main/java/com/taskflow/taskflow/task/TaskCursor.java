@@ -0,0 +1,49 @@
+package com.taskflow.taskflow.task;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.Map;
+
+/**
+ * Keyset position inside a task listing: the last row's sort value plus its id.
+ * Encoded as URL-safe base64 so clients treat it as an opaque token.
+ */
+record TaskCursor(TaskSortField sort, Instant updatedAt, Long id) {
+
+    static TaskCursor after(TaskSortField sort, TaskItem last) {
+        return new TaskCursor(sort, sort == TaskSortField.UPDATED_AT ? last.getUpdatedAt() : null, last.getId());
+    }
+
+    /**
+     * Same as above for a sparse-fieldset row, which always carries the keyset columns.
+     */
+    static TaskCursor after(TaskSortField sort, Map<String, Object> last) {
+        Instant updatedAt = sort == TaskSortField.UPDATED_AT ? (Instant) last.get(TaskField.UPDATED_AT.jsonName()) : null;
+        return new TaskCursor(sort, updatedAt, (Long) last.get(TaskField.ID.jsonName()));
+    }
+
+    static TaskCursor decode(String token, TaskSortField expectedSort) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            String[] parts = raw.split("\\|", -1);
+            TaskSortField sort = TaskSortField.valueOf(parts[0]);
+            if (sort != expectedSort) {
+                // A cursor only makes sense for the ordering that produced it.
+                throw new IllegalStateException("Cursor sort mismatch");
+            }
+            Instant updatedAt = sort == TaskSortField.UPDATED_AT ? Instant.parse(parts[1]) : null;
+            return new TaskCursor(sort, updatedAt, Long.parseLong(parts[2]));
+        } catch (RuntimeException malformed) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Invalid cursor");
+        }
+    }
+
+    String encode() {
+        String raw = sort.name() + "|" + (updatedAt == null ? "" : updatedAt.toString()) + "|" + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,54 @@
+package com.taskflow.taskflow.task;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.util.Locale;
+
+/**
+ * Row-oriented formats used by the bulk import and export endpoints.
+ * CSV uses the same column names in both directions, so an export can be re-imported.
+ */
+public enum TaskDataFormat {
+    NDJSON("application/x-ndjson", "ndjson"),
+    CSV("text/csv", "csv");
+
+    private final MediaType mediaType;
+    private final String extension;
+
+    TaskDataFormat(String mediaType, String extension) {
+        this.mediaType = MediaType.parseMediaType(mediaType);
+        this.extension = extension;
+    }
+
+    public MediaType mediaType() {
+        return mediaType;
+    }
+
+    public String extension() {
+        return extension;
+    }
+
+    public static TaskDataFormat fromContentType(String contentType) {
+        MediaType requested = MediaType.parseMediaType(contentType);
+        for (TaskDataFormat format : values()) {
+            if (format.mediaType.isCompatibleWith(requested)) {
+                return format;
+            }
+        }
+        throw new IllegalStateException("Unsupported import content type: " + contentType);
+    }
+
+    /**
+     * Resolves the `format` query parameter of the export endpoint (`csv` or `ndjson`).
+     */
+    public static TaskDataFormat fromExtension(String extension) {
+        for (TaskDataFormat format : values()) {
+            if (format.extension.equals(extension.toLowerCase(Locale.ROOT))) {
+                return format;
+            }
+        }
+        throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Unsupported export format: " + extension);
+    }
+}
@@ -0,0 +1,106 @@
+package com.taskflow.taskflow.task;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.taskflow.taskflow.common.Csv;
+import com.taskflow.taskflow.project.ProjectAccessGuard;
+import jakarta.persistence.EntityManager;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.Iterator;
+import java.util.stream.Stream;
+
+/**
+ * Writes every task of a project straight from a database cursor to the response.
+ * Rows are detached as soon as they are written, so heap use is flat regardless of project size.
+ */
+@Service
+public class TaskExportService {
+
+    private static final String CSV_HEADER = "id,title,description,status,dueDate,assigneeEmail,createdAt,updatedAt";
+
+    private final TaskRepository taskRepository;
+    private final ProjectAccessGuard accessGuard;
+    private final EntityManager entityManager;
+    private final ObjectMapper objectMapper;
+
+    public TaskExportService(TaskRepository taskRepository,
+                             ProjectAccessGuard accessGuard,
+                             EntityManager entityManager,
+                             ObjectMapper objectMapper) {
+        this.taskRepository = taskRepository;
+        this.accessGuard = accessGuard;
+        this.entityManager = entityManager;
+        this.objectMapper = objectMapper;
+    }
+
+    @Transactional(readOnly = true)
+    public void export(Long projectId, TaskDataFormat format, OutputStream out) throws IOException {
+        accessGuard.requireProject(projectId);
+        try (Stream<TaskItem> tasks = taskRepository.streamByProjectId(projectId)) {
+            if (format == TaskDataFormat.CSV) {
+                writeCsv(tasks.iterator(), out);
+            } else {
+                writeNdjson(tasks.iterator(), out);
+            }
+        }
+    }
+
+    private void writeCsv(Iterator<TaskItem> tasks, OutputStream out) throws IOException {
+        Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+        writer.write(CSV_HEADER);
+        writer.write('\n');
+        while (tasks.hasNext()) {
+            TaskItem task = tasks.next();
+            writer.write(String.valueOf(task.getId()));
+            writer.write(',');
+            writer.write(Csv.escape(task.getTitle()));
+            writer.write(',');
+            writer.write(Csv.escape(task.getDescription()));
+            writer.write(',');
+            writer.write(task.getStatus().name());
+            writer.write(',');
+            writer.write(task.getDueDate() == null ? "" : task.getDueDate().toString());
+            writer.write(',');
+            writer.write(Csv.escape(task.getAssignee() == null ? null : task.getAssignee().getEmail()));
+            writer.write(',');
+            writer.write(task.getCreatedAt() == null ? "" : task.getCreatedAt().toString());
+            writer.write(',');
+            writer.write(task.getUpdatedAt() == null ? "" : task.getUpdatedAt().toString());
+            writer.write('\n');
+            entityManager.detach(task);
+        }
+        writer.flush();
+    }
+
+    private void writeNdjson(Iterator<TaskItem> tasks, OutputStream out) throws IOException {
+        // Fields are written one by one rather than through a DTO, so no per-row object graph is built.
+        try (JsonGenerator json = objectMapper.getFactory().createGenerator(out)) {
+            json.configure(JsonGenerator.Feature.AUTO_CLOSE_TARGET, false);
+            // Rows are separated by the newline written below, not Jackson's default space.
+            json.setRootValueSeparator(null);
+            while (tasks.hasNext()) {
+                TaskItem task = tasks.next();
+                json.writeStartObject();
+                json.writeNumberField("id", task.getId());
+                json.writeStringField("title", task.getTitle());
+                json.writeStringField("description", task.getDescription());
+                json.writeStringField("status", task.getStatus().name());
+                json.writeStringField("dueDate", task.getDueDate() == null ? null : task.getDueDate().toString());
+                json.writeStringField("assigneeEmail", task.getAssignee() == null ? null : task.getAssignee().getEmail());
+                json.writeStringField("createdAt", task.getCreatedAt() == null ? null : task.getCreatedAt().toString());
+                json.writeStringField("updatedAt", task.getUpdatedAt() == null ? null : task.getUpdatedAt().toString());
+                json.writeEndObject();
+                json.writeRaw('\n');
+                entityManager.detach(task);
+            }
+        }
+    }
+}
@@ -0,0 +1,38 @@
+package com.taskflow.taskflow.task;
+
+import com.taskflow.taskflow.common.SparseFields;
+
+/**
+ * Fields of `TaskDto` a client can ask for with `fields=`; only `assigneeEmail` costs a join.
+ */
+public enum TaskField implements SparseFields.Field {
+    ID("id", "id"),
+    TITLE("title", "title"),
+    DESCRIPTION("description", "description"),
+    STATUS("status", "status"),
+    DUE_DATE("dueDate", "dueDate"),
+    ASSIGNEE_EMAIL("assigneeEmail", "assignee.email"),
+    CREATED_AT("createdAt", "createdAt"),
+    UPDATED_AT("updatedAt", "updatedAt"),
+    COMMENT_COUNT("commentCount", "commentCount"),
+    LAST_COMMENT_AT("lastCommentAt", "lastCommentAt"),
+    VERSION("version", "version");
+
+    private final String jsonName;
+    private final String attribute;
+
+    TaskField(String jsonName, String attribute) {
+        this.jsonName = jsonName;
+        this.attribute = attribute;
+    }
+
+    @Override
+    public String jsonName() {
+        return jsonName;
+    }
+
+    @Override
+    public String attribute() {
+        return attribute;
+    }
+}
@@ -0,0 +1,23 @@
+package com.taskflow.taskflow.task;
+
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Projection queries behind sparse fieldsets; mixed into {@link TaskRepository}.
+ * Rows are JSON-ready maps holding exactly the selected fields, with no entities hydrated.
+ */
+public interface TaskFieldQueries {
+
+    List<Map<String, Object>> findFields(Specification<TaskItem> spec, Sort sort, int limit, Set<TaskField> fields);
+
+    /**
+     * Every task of the given projects, ordered by id and grouped by project id.
+     */
+    Map<Long, List<Map<String, Object>>> findFieldsByProjectIds(Collection<Long> projectIds, Set<TaskField> fields);
+}
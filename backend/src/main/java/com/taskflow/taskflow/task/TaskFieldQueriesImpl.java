@@ -0,0 +1,70 @@
+package com.taskflow.taskflow.task;
+
+import com.taskflow.taskflow.common.SparseFields;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.Tuple;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Selection;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.query.QueryUtils;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Criteria tuple queries: the same `TaskSpecifications` predicates as the entity listing, but selecting only the
+ * requested columns.
+ */
+class TaskFieldQueriesImpl implements TaskFieldQueries {
+
+    private static final String PROJECT_ID = "projectId";
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public List<Map<String, Object>> findFields(Specification<TaskItem> spec, Sort sort, int limit, Set<TaskField> fields) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Tuple> query = cb.createTupleQuery();
+        Root<TaskItem> root = query.from(TaskItem.class);
+        query.multiselect(SparseFields.selections(root, fields));
+        Predicate predicate = spec.toPredicate(root, query, cb);
+        if (predicate != null) {
+            query.where(predicate);
+        }
+        query.orderBy(QueryUtils.toOrders(sort, root, cb));
+        return entityManager.createQuery(query)
+                .setMaxResults(limit)
+                .getResultStream()
+                .map(tuple -> SparseFields.toMap(tuple, fields))
+                .toList();
+    }
+
+    @Override
+    public Map<Long, List<Map<String, Object>>> findFieldsByProjectIds(Collection<Long> projectIds, Set<TaskField> fields) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Tuple> query = cb.createTupleQuery();
+        Root<TaskItem> root = query.from(TaskItem.class);
+        // The foreign key column itself; no join to projects.
+        List<Selection<?>> selections = new ArrayList<>(SparseFields.selections(root, fields));
+        selections.add(root.get("project").get("id").alias(PROJECT_ID));
+        query.multiselect(selections)
+                .where(root.get("project").get("id").in(projectIds))
+                .orderBy(cb.asc(root.get("id")));
+
+        Map<Long, List<Map<String, Object>>> byProject = new LinkedHashMap<>();
+        entityManager.createQuery(query).getResultStream().forEach(tuple -> byProject
+                .computeIfAbsent(tuple.get(PROJECT_ID, Long.class), id -> new ArrayList<>())
+                .add(SparseFields.toMap(tuple, fields)));
+        return byProject;
+    }
+}
@@ -0,0 +1,341 @@
+package com.taskflow.taskflow.task;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.taskflow.taskflow.common.Csv;
+import com.taskflow.taskflow.project.Project;
+import com.taskflow.taskflow.project.ProjectAccessGuard;
+import com.taskflow.taskflow.task.dto.CreateTaskRequest;
+import com.taskflow.taskflow.task.dto.TaskDto;
+import com.taskflow.taskflow.task.dto.TaskImportReport;
+import com.taskflow.taskflow.user.UserAccount;
+import com.taskflow.taskflow.user.UserRepository;
+import jakarta.persistence.EntityManager;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import org.hibernate.exception.ConstraintViolationException;
+import org.hibernate.exception.DataException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * Streams a bulk task upload row by row so memory use does not depend on file size.
+ * Valid rows are written in fixed-size chunks, each in its own transaction; invalid rows are reported and skipped.
+ * A chunk the database refuses is retried in halves until the offending rows are isolated and reported one by one.
+ */
+@Service
+public class TaskImportService {
+
+    private static final Logger log = LoggerFactory.getLogger(TaskImportService.class);
+
+    static final int CHUNK_SIZE = 500;
+    static final int MAX_REPORTED_ERRORS = 1_000;
+
+    /** Bounds how much one CSV record may buffer, so a stray opening quote cannot pull the rest of the upload into memory. */
+    static final int MAX_CSV_RECORD_CHARS = 1_000_000;
+
+    private final TaskRepository taskRepository;
+    private final UserRepository userRepository;
+    private final ProjectAccessGuard accessGuard;
+    private final EntityManager entityManager;
+    private final ObjectMapper objectMapper;
+    private final Validator validator;
+    private final TransactionTemplate transactionTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+
+    public TaskImportService(TaskRepository taskRepository,
+                             UserRepository userRepository,
+                             ProjectAccessGuard accessGuard,
+                             EntityManager entityManager,
+                             ObjectMapper objectMapper,
+                             Validator validator,
+                             PlatformTransactionManager transactionManager,
+                             ApplicationEventPublisher eventPublisher) {
+        this.taskRepository = taskRepository;
+        this.userRepository = userRepository;
+        this.accessGuard = accessGuard;
+        this.entityManager = entityManager;
+        this.objectMapper = objectMapper;
+        this.validator = validator;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.eventPublisher = eventPublisher;
+    }
+
+    public TaskImportReport importTasks(Long projectId, TaskDataFormat format, InputStream body) throws IOException {
+        accessGuard.requireProject(projectId);
+        ImportRun run = new ImportRun(projectId);
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(body, StandardCharsets.UTF_8))) {
+            RowParser parser = format == TaskDataFormat.CSV ? new CsvRowParser() : this::parseJsonRow;
+            String line;
+            long lineNumber = 0;
+            while ((line = reader.readLine()) != null) {
+                lineNumber++;
+                if (line.isBlank()) {
+                    continue;
+                }
+                // Rows are reported by the line they start on; a quoted CSV field may carry on over further lines.
+                long rowLine = lineNumber;
+                if (format == TaskDataFormat.CSV && Csv.togglesQuoting(line)) {
+                    StringBuilder record = new StringBuilder(line);
+                    boolean open = true;
+                    boolean oversized = false;
+                    String next;
+                    while (open && (next = reader.readLine()) != null) {
+                        lineNumber++;
+                        open = Csv.togglesQuoting(next) != open;
+                        oversized |= record.length() + next.length() >= MAX_CSV_RECORD_CHARS;
+                        if (!oversized) {
+                            record.append('\n').append(next);
+                        }
+                    }
+                    if (oversized) {
+                        run.reject(rowLine, "Row exceeds " + MAX_CSV_RECORD_CHARS + " characters");
+                        continue;
+                    }
+                    line = record.toString();
+                }
+                try {
+                    CreateTaskRequest row = parser.parse(line);
+                    if (row != null) {
+                        run.accept(rowLine, row);
+                    }
+                } catch (RowRejectedException rejected) {
+                    run.reject(rowLine, rejected.getMessage());
+                }
+            }
+        }
+        run.flush();
+        return run.report();
+    }
+
+    private CreateTaskRequest parseJsonRow(String line) {
+        try {
+            return objectMapper.readValue(line, CreateTaskRequest.class);
+        } catch (JsonProcessingException malformed) {
+            throw new RowRejectedException("Malformed row: " + malformed.getOriginalMessage());
+        }
+    }
+
+    /**
+     * Per-import state: the pending chunk, the assignee lookup table and the running totals.
+     */
+    private final class ImportRun {
+
+        private final Long projectId;
+        private final Map<String, Optional<UserAccount>> assignees = new HashMap<>();
+        private final List<PendingRow> chunk = new ArrayList<>(CHUNK_SIZE);
+        private final List<TaskImportReport.RowError> errors = new ArrayList<>();
+        private long imported;
+        private long failed;
+
+        private ImportRun(Long projectId) {
+            this.projectId = projectId;
+        }
+
+        void accept(long line, CreateTaskRequest row) {
+            Set<ConstraintViolation<CreateTaskRequest>> violations = validator.validate(row);
+            if (!violations.isEmpty()) {
+                ConstraintViolation<CreateTaskRequest> first = violations.iterator().next();
+                reject(line, first.getPropertyPath() + " " + first.getMessage());
+                return;
+            }
+            UserAccount assignee = null;
+            if (row.assigneeEmail() != null && !row.assigneeEmail().isBlank()) {
+                assignee = resolveAssignee(row.assigneeEmail());
+                if (assignee == null) {
+                    reject(line, "User not found: " + row.assigneeEmail());
+                    return;
+                }
+            }
+            chunk.add(new PendingRow(line, row, assignee));
+            if (chunk.size() >= CHUNK_SIZE) {
+                flush();
+            }
+        }
+
+        void reject(long line, String message) {
+            failed++;
+            if (errors.size() < MAX_REPORTED_ERRORS) {
+                errors.add(new TaskImportReport.RowError(line, message));
+            }
+        }
+
+        /**
+         * Each distinct email costs one lookup per import, however many rows reference it; unknown emails are
+         * remembered too, so a typo repeated on every row is not looked up again.
+         */
+        private UserAccount resolveAssignee(String email) {
+            return assignees.computeIfAbsent(email.toLowerCase(Locale.ROOT), userRepository::lookupByEmail)
+                    .orElse(null);
+        }
+
+        void flush() {
+            if (chunk.isEmpty()) {
+                return;
+            }
+            try {
+                insertIsolatingFailures(chunk);
+            } finally {
+                chunk.clear();
+            }
+        }
+
+        /**
+         * Inserts the rows in one transaction. If the database refuses it, the rows are split in half and each half is
+         * retried, so only the offending rows are rejected; k bad rows in a chunk of n cost about k log n extra
+         * transactions.
+         */
+        private void insertIsolatingFailures(List<PendingRow> rows) {
+            try {
+                insert(rows);
+                imported += rows.size();
+            } catch (RuntimeException failure) {
+                if (rows.size() == 1) {
+                    PendingRow row = rows.get(0);
+                    // The driver message names tables and constraints; it goes to the log, not to the client.
+                    log.warn("Import into project {} rejected line {}", projectId, row.line(), failure);
+                    reject(row.line(), rejectionReason(failure));
+                    return;
+                }
+                int half = rows.size() / 2;
+                insertIsolatingFailures(rows.subList(0, half));
+                insertIsolatingFailures(rows.subList(half, rows.size()));
+            }
+        }
+
+        private void insert(List<PendingRow> rows) {
+            transactionTemplate.executeWithoutResult(status -> {
+                Project project = entityManager.getReference(Project.class, projectId);
+                List<TaskItem> tasks = new ArrayList<>(rows.size());
+                for (PendingRow pending : rows) {
+                    CreateTaskRequest row = pending.request();
+                    tasks.add(TaskItem.builder()
+                            .project(project)
+                            .title(row.title())
+                            .description(row.description())
+                            .status(row.status())
+                            .dueDate(row.dueDate())
+                            .assignee(pending.assignee() == null
+                                    ? null
+                                    : entityManager.getReference(UserAccount.class, pending.assignee().getId()))
+                            .build());
+                }
+                taskRepository.saveAll(tasks);
+                entityManager.flush();
+                // Same events as single creates, so imported rows reach every listener. The DTO takes the assignee
+                // email from the resolved user rather than through the mapper, which would initialise each proxy.
+                for (int i = 0; i < tasks.size(); i++) {
+                    eventPublisher.publishEvent(TaskChangedEvent.created(projectId,
+                            toDto(tasks.get(i), rows.get(i).assignee())));
+                }
+                // Detach the chunk so the persistence context does not grow with the upload.
+                entityManager.clear();
+            });
+        }
+
+        TaskImportReport report() {
+            return new TaskImportReport(imported, failed, List.copyOf(errors), failed > errors.size());
+        }
+    }
+
+    /**
+     * A client-safe reason; `flush()` inside the template throws Hibernate's exceptions untranslated, so both families are
+     * checked.
+     */
+    private static String rejectionReason(RuntimeException failure) {
+        if (failure instanceof DataException) {
+            return "A value is too long or out of range for its column";
+        }
+        if (failure instanceof ConstraintViolationException || failure instanceof DataIntegrityViolationException) {
+            return "Breaks a database constraint";
+        }
+        return "Could not be stored";
+    }
+
+    private static TaskDto toDto(TaskItem task, UserAccount assignee) {
+        return new TaskDto(task.getId(), task.getTitle(), task.getDescription(), task.getStatus(), task.getDueDate(),
+                assignee == null ? null : assignee.getEmail(), task.getCreatedAt(), task.getUpdatedAt(),
+                task.getCommentCount(), task.getLastCommentAt(), task.getVersion());
+    }
+
+    private record PendingRow(long line, CreateTaskRequest request, UserAccount assignee) {
+    }
+
+    @FunctionalInterface
+    private interface RowParser {
+        /**
+         * Returns null for lines that carry no task (such as the CSV header).
+         */
+        CreateTaskRequest parse(String line);
+    }
+
+    /**
+     * Maps columns by the header row, so column order is free and unknown columns are ignored.
+     */
+    private static final class CsvRowParser implements RowParser {
+
+        private Map<String, Integer> columns;
+
+        @Override
+        public CreateTaskRequest parse(String line) {
+            List<String> fields;
+            try {
+                fields = Csv.parseLine(line);
+            } catch (IllegalArgumentException malformed) {
+                throw new RowRejectedException("Malformed row: " + malformed.getMessage());
+            }
+            if (columns == null) {
+                columns = new HashMap<>();
+                for (int i = 0; i < fields.size(); i++) {
+                    columns.put(fields.get(i).trim().toLowerCase(Locale.ROOT), i);
+                }
+                return null;
+            }
+            try {
+                String status = field(fields, "status");
+                String dueDate = field(fields, "duedate");
+                return new CreateTaskRequest(
+                        field(fields, "title"),
+                        field(fields, "description"),
+                        status == null ? null : TaskStatus.valueOf(status.trim().toUpperCase(Locale.ROOT)),
+                        dueDate == null ? null : LocalDate.parse(dueDate.trim()),
+                        field(fields, "assigneeemail"));
+            } catch (RuntimeException badValue) {
+                throw new RowRejectedException("Malformed row: " + badValue.getMessage());
+            }
+        }
+
+        private String field(List<String> fields, String name) {
+            Integer index = columns.get(name);
+            if (index == null || index >= fields.size() || fields.get(index).isEmpty()) {
+                return null;
+            }
+            return fields.get(index);
+        }
+    }
+
+    private static final class RowRejectedException extends RuntimeException {
+        RowRejectedException(String message) {
+            super(message);
+        }
+    }
+}
@@ -6,6 +6,7 @@ import com.taskflow.taskflow.user.UserAccount;
 import jakarta.persistence.*;
 import jakarta.validation.constraints.NotBlank;
 import lombok.*;
+import org.hibernate.annotations.ColumnDefault;
 
 import java.time.Instant;
 import java.time.LocalDate;
@@ -16,7 +17,14 @@ import java.util.List;
  * Core domain entity representing actionable work.
  */
 @Entity
-@Table(name = "tasks")
+@Table(name = "tasks", indexes = {
+        // Keyset listing indexes: every one leads with project_id and ends with the sort tie-breaker.
+        @Index(name = "idx_tasks_project_id", columnList = "project_id, id"),
+        @Index(name = "idx_tasks_project_updated", columnList = "project_id, updated_at, id"),
+        @Index(name = "idx_tasks_project_status", columnList = "project_id, status, id"),
+        @Index(name = "idx_tasks_project_assignee", columnList = "project_id, assignee_id, id"),
+        @Index(name = "idx_tasks_project_due", columnList = "project_id, due_date")
+})
 @Getter
 @Setter
 @Builder
@@ -25,7 +33,8 @@ import java.util.List;
 public class TaskItem {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "tasks_seq")
+    @SequenceGenerator(name = "tasks_seq", sequenceName = "tasks_seq", allocationSize = 50)
     private Long id;
 
     @NotBlank
@@ -52,11 +61,33 @@ public class TaskItem {
     @Builder.Default
     private List<TaskComment> comments = new ArrayList<>();
 
+    /**
+     * Denormalised thread summary so listings never touch `task_comments`; kept current by
+     * `TaskRepository.recordComment` and repaired by `CommentStatsService`.
+     * Not updatable through the entity: a task flush would otherwise write back the count it loaded and lose comments
+     * committed in between (comments do not bump `version`).
+     */
+    @Column(nullable = false, updatable = false)
+    @ColumnDefault("0")
+    @Builder.Default
+    private int commentCount = 0;
+
+    @Column(updatable = false)
+    private Instant lastCommentAt;
+
     @Builder.Default
     private Instant createdAt = Instant.now();
 
     private Instant updatedAt;
 
+    /**
+     * Optimistic-lock version, exposed to clients as the task's ETag and checked against `If-Match`.
+     */
+    @Version
+    @Column(nullable = false)
+    @ColumnDefault("0")
+    private long version;
+
     @PrePersist
     public void onCreate() {
         this.updatedAt = Instant.now();
@@ -1,6 +1,5 @@
 package com.taskflow.taskflow.task;
 
-import com.taskflow.taskflow.comment.CommentMapper;
 import com.taskflow.taskflow.task.dto.TaskDto;
 import org.mapstruct.Mapper;
 import org.mapstruct.Mapping;
@@ -8,7 +7,7 @@ import org.mapstruct.Mapping;
 /**
  * MapStruct mapper that converts JPA entities into API-friendly DTOs.
  */
-@Mapper(componentModel = "spring", uses = CommentMapper.class)
+@Mapper(componentModel = "spring")
 public interface TaskMapper {
 
     /**
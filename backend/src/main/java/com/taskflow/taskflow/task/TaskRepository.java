@@ -1,11 +1,79 @@
 package com.taskflow.taskflow.task;
 
-import com.taskflow.taskflow.project.Project;
+import com.taskflow.taskflow.task.dto.TaskDto;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 
+import java.time.Instant;
 import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
 
-public interface TaskRepository extends JpaRepository<TaskItem, Long> {
-    List<TaskItem> findByProject(Project project);
-}
+/**
+ * Listing queries are composed from `TaskSpecifications` so filters and keyset predicates combine freely.
+ */
+public interface TaskRepository extends JpaRepository<TaskItem, Long>, JpaSpecificationExecutor<TaskItem>, TaskFieldQueries {
+
+    /**
+     * Loads everything `TaskMapper` touches for a single task in one statement.
+     */
+    @EntityGraph(attributePaths = "assignee")
+    Optional<TaskItem> findWithDetailsById(Long id);
+
+    /**
+     * Ownership check in one statement: resolves the task's project only if the given user owns it.
+     */
+    @Query("select t.project.id from TaskItem t where t.id = :taskId and t.project.owner.id = :ownerId")
+    Optional<Long> findProjectIdByIdAndOwnerId(@Param("taskId") Long taskId, @Param("ownerId") Long ownerId);
+
+    /**
+     * The `TaskDto` of one task straight from a constructor expression, without hydrating the entity.
+     */
+    @Query("select new com.taskflow.taskflow.task.dto.TaskDto(t.id, t.title, t.description, t.status, t.dueDate, a.email, "
+            + "t.createdAt, t.updatedAt, t.commentCount, t.lastCommentAt, t.version) "
+            + "from TaskItem t left join t.assignee a where t.id = :id")
+    Optional<TaskDto> findDtoById(@Param("id") Long id);
 
+    /**
+     * Versioned status change in one statement; 0 rows means the task changed since `version` was read.
+     */
+    @Modifying
+    @Query("update TaskItem t set t.status = :status, t.updatedAt = :updatedAt, t.version = t.version + 1 "
+            + "where t.id = :id and t.version = :version")
+    int updateStatusIfVersion(@Param("id") Long id,
+                              @Param("status") TaskStatus status,
+                              @Param("updatedAt") Instant updatedAt,
+                              @Param("version") long version);
+
+    /**
+     * Folds a new comment into the task's thread summary with one atomic update, without loading the task.
+     */
+    @Modifying
+    @Query("update TaskItem t set t.commentCount = t.commentCount + 1, t.lastCommentAt = :createdAt where t.id = :taskId")
+    int recordComment(@Param("taskId") Long taskId, @Param("createdAt") Instant createdAt);
+
+    /**
+     * Forward-only cursor over a project's tasks for exports. Must be consumed inside a transaction
+     * (PostgreSQL only honours the fetch size with auto-commit off) and closed afterwards.
+     */
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("select t from TaskItem t left join fetch t.assignee where t.project.id = :projectId order by t.id")
+    Stream<TaskItem> streamByProjectId(@Param("projectId") Long projectId);
+
+    /**
+     * Removes a project's tasks in one statement; their comments must be deleted first.
+     */
+    @Modifying
+    @Query("delete from TaskItem t where t.project.id = :projectId")
+    int deleteByProjectId(@Param("projectId") Long projectId);
+}
@@ -3,22 +3,40 @@ package com.taskflow.taskflow.task;
 import com.taskflow.taskflow.comment.CommentMapper;
 import com.taskflow.taskflow.comment.TaskComment;
 import com.taskflow.taskflow.comment.TaskCommentRepository;
+import com.taskflow.taskflow.comment.dto.CommentListQuery;
 import com.taskflow.taskflow.comment.dto.TaskCommentDto;
+import com.taskflow.taskflow.common.CursorPage;
+import com.taskflow.taskflow.common.OptimisticWrites;
+import com.taskflow.taskflow.common.SparseFields;
 import com.taskflow.taskflow.project.Project;
+import com.taskflow.taskflow.project.ProjectAccessGuard;
 import com.taskflow.taskflow.project.ProjectService;
 import com.taskflow.taskflow.task.dto.CreateTaskRequest;
 import com.taskflow.taskflow.task.dto.TaskDto;
+import com.taskflow.taskflow.task.dto.TaskListQuery;
 import com.taskflow.taskflow.task.dto.UpdateTaskRequest;
 import com.taskflow.taskflow.task.dto.UpdateTaskStatusRequest;
 import com.taskflow.taskflow.user.UserAccount;
 import com.taskflow.taskflow.user.UserService;
+import io.micrometer.core.annotation.Timed;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.EnumSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
 
 /**
  * Use-case layer for task operations.
+ * Every write publishes a {@link TaskChangedEvent} so derived read models (search index, counters, feeds) stay in sync.
  */
 @Service
 public class TaskService {
@@ -29,13 +47,19 @@ public class TaskService {
     private final UserService userService;
     private final TaskCommentRepository commentRepository;
     private final CommentMapper commentMapper;
+    private final ProjectAccessGuard accessGuard;
+    private final ApplicationEventPublisher eventPublisher;
+    private final OptimisticWrites optimisticWrites;
 
     public TaskService(TaskRepository taskRepository,
                        TaskMapper taskMapper,
                        ProjectService projectService,
                        UserService userService,
                        TaskCommentRepository commentRepository,
-                       CommentMapper commentMapper) {
+                       CommentMapper commentMapper,
+                       ProjectAccessGuard accessGuard,
+                       ApplicationEventPublisher eventPublisher,
+                       OptimisticWrites optimisticWrites) {
         // Wiring through constructor keeps collaborators explicit for tests.
         this.taskRepository = taskRepository;
         this.taskMapper = taskMapper;
@@ -43,8 +67,12 @@ public class TaskService {
         this.userService = userService;
         this.commentRepository = commentRepository;
         this.commentMapper = commentMapper;
+        this.accessGuard = accessGuard;
+        this.eventPublisher = eventPublisher;
+        this.optimisticWrites = optimisticWrites;
     }
 
+    @Timed("taskflow.tasks.create")
     @Transactional
     public TaskDto createTask(Long projectId, CreateTaskRequest request) {
         // Ensure the parent project exists before creating the task.
@@ -62,42 +90,127 @@ public class TaskService {
             task.setAssignee(assignee);
         }
         TaskItem saved = taskRepository.save(task);
-        return taskMapper.toDto(saved);
+        TaskDto dto = taskMapper.toDto(saved);
+        eventPublisher.publishEvent(TaskChangedEvent.created(projectId, dto));
+        return dto;
     }
 
+    @Timed("taskflow.tasks.list")
     @Transactional(readOnly = true)
-    public List<TaskDto> listTasks(Long projectId) {
-        // Load tasks for a project and map to lightweight DTOs for the API.
-        Project project = projectService.getProjectOrThrow(projectId);
-        return taskRepository.findByProject(project)
-                .stream()
-                .map(taskMapper::toDto)
-                .toList();
+    public CursorPage<TaskDto> listTasks(Long projectId, TaskListQuery query) {
+        // Keyset pagination: fetch one extra row to learn whether another page exists.
+        Specification<TaskItem> spec = listingSpec(projectId, query).orElse(null);
+        if (spec == null) {
+            return new CursorPage<>(List.of(), null);
+        }
+        List<TaskItem> rows = taskRepository.findBy(spec, q -> q
+                .sortBy(TaskSpecifications.sortFor(query.sort(), query.direction()))
+                .limit(query.limit() + 1)
+                .project("assignee")
+                .all());
+
+        boolean hasMore = rows.size() > query.limit();
+        List<TaskItem> page = hasMore ? rows.subList(0, query.limit()) : rows;
+        String nextCursor = hasMore ? TaskCursor.after(query.sort(), page.get(page.size() - 1)).encode() : null;
+        return new CursorPage<>(page.stream().map(taskMapper::toDto).toList(), nextCursor);
+    }
+
+    /**
+     * Same listing as {@link #listTasks} as a projection of just the requested fields: no entity hydration, and the
+     * assignee join only when `assigneeEmail` is asked for. The keyset columns are selected too and dropped afterwards.
+     */
+    @Timed("taskflow.tasks.list")
+    @Transactional(readOnly = true)
+    public CursorPage<Map<String, Object>> listTaskFields(Long projectId, TaskListQuery query, Set<TaskField> fields) {
+        Set<TaskField> selected = EnumSet.copyOf(fields);
+        selected.add(TaskField.ID);
+        if (query.sort() == TaskSortField.UPDATED_AT) {
+            selected.add(TaskField.UPDATED_AT);
+        }
+        Specification<TaskItem> spec = listingSpec(projectId, query).orElse(null);
+        if (spec == null) {
+            return new CursorPage<>(List.of(), null);
+        }
+        List<Map<String, Object>> rows = taskRepository.findFields(spec,
+                TaskSpecifications.sortFor(query.sort(), query.direction()), query.limit() + 1, selected);
+
+        boolean hasMore = rows.size() > query.limit();
+        List<Map<String, Object>> page = hasMore ? rows.subList(0, query.limit()) : rows;
+        String nextCursor = hasMore ? TaskCursor.after(query.sort(), page.get(page.size() - 1)).encode() : null;
+        SparseFields.retain(page, fields);
+        return new CursorPage<>(page, nextCursor);
     }
 
+    /**
+     * Empty when no task can match, which is the case for an assignee filter naming no known user: a filter that
+     * matches nothing is an empty page, not a missing resource.
+     */
+    private Optional<Specification<TaskItem>> listingSpec(Long projectId, TaskListQuery query) {
+        projectService.getProjectOrThrow(projectId);
+        Long assigneeId = null;
+        if (query.assignee() != null && !query.assignee().isBlank()) {
+            Optional<UserAccount> assignee = userService.findByEmail(query.assignee());
+            if (assignee.isEmpty()) {
+                return Optional.empty();
+            }
+            assigneeId = assignee.get().getId();
+        }
+        TaskCursor cursor = query.cursor() == null ? null : TaskCursor.decode(query.cursor(), query.sort());
+        return Optional.of(Specification.allOf(
+                TaskSpecifications.inProject(projectId),
+                TaskSpecifications.hasStatusIn(query.status()),
+                TaskSpecifications.assignedTo(assigneeId),
+                TaskSpecifications.dueBetween(query.dueFrom(), query.dueTo()),
+                TaskSpecifications.after(cursor, query.direction())));
+    }
+
+    @Timed("taskflow.tasks.get")
     @Transactional(readOnly = true)
     public TaskItem getTaskOrThrow(Long id) {
+        accessGuard.requireTask(id);
         return taskRepository.findById(id)
-                .map(task -> {
-                    projectService.getProjectOrThrow(task.getProject().getId());
-                    return task;
-                })
                 .orElseThrow(() -> new IllegalArgumentException("Task not found: " + id));
     }
 
-    @Transactional
-    public TaskDto updateStatus(Long taskId, UpdateTaskStatusRequest request) {
-        // Only mutate the status field so partial updates stay safe.
-        TaskItem task = getTaskOrThrow(taskId);
-        task.setStatus(request.status());
-        TaskItem saved = taskRepository.save(task);
-        return taskMapper.toDto(saved);
+    /**
+     * Same as `getTaskOrThrow` but with the fetch plan `TaskMapper` needs, for methods that return a `TaskDto`.
+     */
+    private TaskItem getTaskWithDetailsOrThrow(Long id) {
+        accessGuard.requireTask(id);
+        return taskRepository.findWithDetailsById(id)
+                .orElseThrow(() -> new IllegalArgumentException("Task not found: " + id));
     }
 
+    /**
+     * Reads the task as a DTO projection (the event needs its previous status), then changes the status with one
+     * `UPDATE ... WHERE id = ? AND version = ?`; no entity is hydrated or dirty-checked.
+     * `expectedVersion` comes from `If-Match`; null means "whatever is current", retried if another write wins the race.
+     */
+    @Timed("taskflow.tasks.status")
+    public TaskDto updateStatus(Long taskId, UpdateTaskStatusRequest request, Long expectedVersion) {
+        return optimisticWrites.execute("task", "status", expectedVersion != null, () -> {
+            Long projectId = accessGuard.requireTask(taskId);
+            TaskDto current = taskRepository.findDtoById(taskId)
+                    .orElseThrow(() -> new IllegalArgumentException("Task not found: " + taskId));
+            long version = expectedVersion != null ? expectedVersion : current.version();
+            Instant now = Instant.now();
+            if (current.version() != version || taskRepository.updateStatusIfVersion(taskId, request.status(), now, version) == 0) {
+                throw new OptimisticLockingFailureException("Task " + taskId + " changed since version " + version);
+            }
+            TaskDto dto = new TaskDto(current.id(), current.title(), current.description(), request.status(),
+                    current.dueDate(), current.assigneeEmail(), current.createdAt(), now, current.commentCount(),
+                    current.lastCommentAt(), version + 1);
+            eventPublisher.publishEvent(TaskChangedEvent.updated(projectId, dto, current.status(), current.dueDate()));
+            return dto;
+        });
+    }
+
+    @Timed("taskflow.tasks.comment")
     @Transactional
     public TaskCommentDto addComment(Long taskId, String authorEmail, String body) {
-        // Resolve both the task and author to maintain referential integrity.
-        TaskItem task = getTaskOrThrow(taskId);
+        // The access check proves the task exists, so a reference is enough to link the comment.
+        accessGuard.requireTask(taskId);
+        TaskItem task = taskRepository.getReferenceById(taskId);
         UserAccount author = userService.getByEmail(authorEmail);
         TaskComment comment = TaskComment.builder()
                 .task(task)
@@ -105,22 +218,46 @@ public class TaskService {
                 .body(body)
                 .build();
         TaskComment saved = commentRepository.save(comment);
-        return commentMapper.toDto(saved);
+        taskRepository.recordComment(taskId, saved.getCreatedAt());
+        TaskCommentDto dto = commentMapper.toDto(saved);
+        eventPublisher.publishEvent(TaskChangedEvent.commentAdded(accessGuard.requireTask(taskId), taskId, dto));
+        return dto;
     }
 
+    @Timed("taskflow.tasks.comments")
     @Transactional(readOnly = true)
-    public List<TaskCommentDto> listComments(Long taskId) {
-        // Fetch all comments belonging to a task, newest first via repository.
-        TaskItem task = getTaskOrThrow(taskId);
-        return commentRepository.findByTask(task)
-                .stream()
-                .map(commentMapper::toDto)
-                .toList();
+    public CursorPage<TaskCommentDto> listComments(Long taskId, CommentListQuery query) {
+        // Keyset pagination oldest first; one extra row tells whether the thread continues.
+        accessGuard.requireTask(taskId);
+        Limit limit = Limit.of(query.limit() + 1);
+        CommentCursor cursor = query.cursor() == null ? null : CommentCursor.decode(query.cursor());
+        List<TaskComment> rows = cursor == null
+                ? commentRepository.findThreadStart(taskId, limit)
+                : commentRepository.findThreadAfter(taskId, cursor.createdAt(), cursor.id(), limit);
+
+        boolean hasMore = rows.size() > query.limit();
+        List<TaskComment> page = hasMore ? rows.subList(0, query.limit()) : rows;
+        String nextCursor = hasMore ? CommentCursor.after(page.get(page.size() - 1)).encode() : null;
+        return new CursorPage<>(page.stream().map(commentMapper::toDto).toList(), nextCursor);
     }
 
-    @Transactional
-    public TaskDto updateTask(Long taskId, UpdateTaskRequest request) {
-        TaskItem task = getTaskOrThrow(taskId);
+    /**
+     * Full replacement through the entity; Hibernate's version check at flush catches writes that land in between.
+     * `expectedVersion` works as in {@link #updateStatus}.
+     */
+    @Timed("taskflow.tasks.update")
+    public TaskDto updateTask(Long taskId, UpdateTaskRequest request, Long expectedVersion) {
+        return optimisticWrites.execute("task", "update", expectedVersion != null,
+                () -> replaceTask(taskId, request, expectedVersion));
+    }
+
+    private TaskDto replaceTask(Long taskId, UpdateTaskRequest request, Long expectedVersion) {
+        TaskItem task = getTaskWithDetailsOrThrow(taskId);
+        if (expectedVersion != null && task.getVersion() != expectedVersion) {
+            throw new OptimisticLockingFailureException("Task " + taskId + " changed since version " + expectedVersion);
+        }
+        TaskStatus previousStatus = task.getStatus();
+        LocalDate previousDueDate = task.getDueDate();
         task.setTitle(request.title());
         task.setDescription(request.description());
         task.setStatus(request.status());
@@ -131,14 +268,19 @@ public class TaskService {
         } else {
             task.setAssignee(null);
         }
-        TaskItem saved = taskRepository.save(task);
-        return taskMapper.toDto(saved);
+        // Flushing now runs the versioned UPDATE, so the returned DTO carries the new version.
+        TaskItem saved = taskRepository.saveAndFlush(task);
+        TaskDto dto = taskMapper.toDto(saved);
+        eventPublisher.publishEvent(TaskChangedEvent.updated(accessGuard.requireTask(taskId), dto, previousStatus, previousDueDate));
+        return dto;
     }
 
+    @Timed("taskflow.tasks.delete")
     @Transactional
     public void deleteTask(Long taskId) {
         TaskItem task = getTaskOrThrow(taskId);
         taskRepository.delete(task);
+        eventPublisher.publishEvent(TaskChangedEvent.deleted(accessGuard.requireTask(taskId), taskId, task.getStatus(), task.getDueDate()));
     }
 }
 
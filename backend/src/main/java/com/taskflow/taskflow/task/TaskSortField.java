@@ -0,0 +1,9 @@
+package com.taskflow.taskflow.task;
+
+/**
+ * Columns a task listing can be ordered by. Each one is paired with the id as a tie-breaker so the keyset stays unique.
+ */
+public enum TaskSortField {
+    ID,
+    UPDATED_AT
+}
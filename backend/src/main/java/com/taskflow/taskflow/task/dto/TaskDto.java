@@ -1,14 +1,14 @@
 package com.taskflow.taskflow.task.dto;
 
-import com.taskflow.taskflow.comment.dto.TaskCommentDto;
 import com.taskflow.taskflow.task.TaskStatus;
 
 import java.time.Instant;
 import java.time.LocalDate;
-import java.util.List;
 
 /**
  * Outbound representation for task cards.
+ * Comments are summarised by count and latest timestamp; the thread itself is paged from `/api/tasks/{id}/comments`.
+ * `version` is what `If-Match` must name (as `"<version>"`) for a conditional update.
  */
 public record TaskDto(
         Long id,
@@ -19,7 +19,9 @@ public record TaskDto(
         String assigneeEmail,
         Instant createdAt,
         Instant updatedAt,
-        List<TaskCommentDto> comments
+        int commentCount,
+        Instant lastCommentAt,
+        long version
 ) {
 }
 
@@ -0,0 +1,20 @@
+package com.taskflow.taskflow.task.dto;
+
+import java.util.List;
+
+/**
+ * Outcome of a bulk import. Only the first rejected rows are listed so the report stays small for huge files.
+ */
+public record TaskImportReport(
+        long imported,
+        long failed,
+        List<RowError> errors,
+        boolean errorsTruncated
+) {
+
+    /**
+     * `line` is the 1-based line number in the uploaded body.
+     */
+    public record RowError(long line, String message) {
+    }
+}
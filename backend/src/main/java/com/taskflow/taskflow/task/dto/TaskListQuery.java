@@ -0,0 +1,38 @@
+package com.taskflow.taskflow.task.dto;
+
+import com.taskflow.taskflow.task.TaskSortField;
+import com.taskflow.taskflow.task.TaskStatus;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import org.springframework.data.domain.Sort;
+import org.springframework.format.annotation.DateTimeFormat;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * Query-string filters for the paginated task listing.
+ * Every field is optional; missing values fall back to "all tasks, oldest first".
+ * `fields` (comma-separated `TaskDto` property names) switches the listing to a sparse projection.
+ */
+public record TaskListQuery(
+        List<TaskStatus> status,
+        String assignee,
+        @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate dueFrom,
+        @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate dueTo,
+        TaskSortField sort,
+        Sort.Direction direction,
+        String cursor,
+        @Min(1) @Max(200) Integer limit,
+        String fields
+) {
+
+    public static final int DEFAULT_LIMIT = 50;
+
+    public TaskListQuery {
+        status = status == null ? List.of() : List.copyOf(status);
+        sort = sort == null ? TaskSortField.ID : sort;
+        direction = direction == null ? Sort.Direction.ASC : direction;
+        limit = limit == null ? DEFAULT_LIMIT : limit;
+    }
+}
@@ -1,10 +1,13 @@
 package com.taskflow.taskflow.user;
 
+import com.taskflow.taskflow.security.InvalidRefreshTokenException;
 import com.taskflow.taskflow.security.JwtService;
+import com.taskflow.taskflow.security.RefreshTokenService;
 import com.taskflow.taskflow.user.dto.AuthResponse;
 import com.taskflow.taskflow.user.dto.LoginRequest;
 import com.taskflow.taskflow.user.dto.RegisterRequest;
 import com.taskflow.taskflow.user.dto.UserDto;
+import io.micrometer.core.annotation.Timed;
 import jakarta.validation.Valid;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
@@ -27,17 +30,21 @@ public class AuthController {
     private final AuthenticationManager authenticationManager;
     private final JwtService jwtService;
     private final UserService.UserMapper userMapper;
+    private final RefreshTokenService refreshTokenService;
 
     public AuthController(UserService userService,
                           AuthenticationManager authenticationManager,
                           JwtService jwtService,
-                          UserService.UserMapper userMapper) {
+                          UserService.UserMapper userMapper,
+                          RefreshTokenService refreshTokenService) {
         this.userService = userService;
         this.authenticationManager = authenticationManager;
         this.jwtService = jwtService;
         this.userMapper = userMapper;
+        this.refreshTokenService = refreshTokenService;
     }
 
+    @Timed("taskflow.auth.register")
     @PostMapping("/register")
     public ResponseEntity<AuthResponse> register(@Valid @RequestBody RegisterRequest request) {
         if (userService.emailTaken(request.email())) {
@@ -47,9 +54,10 @@ public class AuthController {
 
         UserAccount user = userService.createMember(request.email(), request.fullName(), request.password());
         return ResponseEntity.status(HttpStatus.CREATED)
-                .body(generateTokens(user));
+                .body(generateTokens(user, refreshTokenService.issue(user.getEmail())));
     }
 
+    @Timed("taskflow.auth.login")
     @PostMapping("/login")
     public ResponseEntity<AuthResponse> login(@Valid @RequestBody LoginRequest request) {
         // Delegate to Spring Security to check the password and populate the context.
@@ -58,9 +66,14 @@ public class AuthController {
         SecurityContextHolder.getContext().setAuthentication(authentication);
 
         UserAccount user = userService.getByEmail(request.email());
-        return ResponseEntity.ok(generateTokens(user));
+        return ResponseEntity.ok(generateTokens(user, refreshTokenService.issue(user.getEmail())));
     }
 
+    /**
+     * Rotates the refresh token: the presented token is used up and a new one is returned with the access token.
+     * Presenting a used token again revokes the whole session.
+     */
+    @Timed("taskflow.auth.refresh")
     @PostMapping("/refresh")
     public ResponseEntity<AuthResponse> refresh(@RequestHeader(value = "Authorization", required = false) String authHeader) {
         if (authHeader == null || !authHeader.startsWith("Bearer ")) {
@@ -69,22 +82,33 @@ public class AuthController {
 
         String refreshToken = authHeader.substring(7);
         try {
-            var decoded = jwtService.verify(refreshToken);
-            if (!"REFRESH".equals(decoded.getClaim("type").asString())) {
-                // Reject access tokens presented to the refresh endpoint.
-                return ResponseEntity.status(HttpStatus.UNAUTHORIZED).build();
-            }
-            UserAccount user = userService.getByEmail(decoded.getSubject());
-            return ResponseEntity.ok(generateTokens(user));
+            RefreshTokenService.Rotation rotation = refreshTokenService.rotate(refreshToken);
+            UserAccount user = userService.getByEmail(rotation.subject());
+            return ResponseEntity.ok(generateTokens(user, rotation.refreshToken()));
         } catch (Exception tokenError) {
             return ResponseEntity.status(HttpStatus.UNAUTHORIZED).build();
         }
     }
 
-    private AuthResponse generateTokens(UserAccount user) {
+    /**
+     * Revokes the refresh token's session; the short-lived access token simply runs out.
+     */
+    @Timed("taskflow.auth.logout")
+    @PostMapping("/logout")
+    public ResponseEntity<Void> logout(@RequestHeader(value = "Authorization", required = false) String authHeader) {
+        if (authHeader != null && authHeader.startsWith("Bearer ")) {
+            try {
+                refreshTokenService.revoke(authHeader.substring(7));
+            } catch (InvalidRefreshTokenException ignored) {
+                // Logging out with a dead token is already the desired end state.
+            }
+        }
+        return ResponseEntity.noContent().build();
+    }
+
+    private AuthResponse generateTokens(UserAccount user, String refreshToken) {
         Map<String, String> claims = Map.of("fullName", user.getFullName());
         String accessToken = jwtService.createAccessToken(user.getEmail(), claims);
-        String refreshToken = jwtService.createRefreshToken(user.getEmail());
         UserDto dto = userMapper.toDto(user);
         return new AuthResponse(accessToken, refreshToken, dto);
     }
@@ -0,0 +1,7 @@
+package com.taskflow.taskflow.user;
+
+/**
+ * Published whenever a user's roles or account details change, so caches keyed by email can drop stale copies.
+ */
+public record UserAccountChangedEvent(String email) {
+}
@@ -1,10 +1,10 @@
 package com.taskflow.taskflow.user;
 
+import com.taskflow.taskflow.user.dto.UpdateUserRolesRequest;
 import com.taskflow.taskflow.user.dto.UserDto;
+import jakarta.validation.Valid;
 import org.springframework.security.access.prepost.PreAuthorize;
-import org.springframework.web.bind.annotation.GetMapping;
-import org.springframework.web.bind.annotation.RequestMapping;
-import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.bind.annotation.*;
 
 import java.util.List;
 
@@ -26,5 +26,12 @@ public class UserController {
     public List<UserDto> getUsers() {
         return userService.findAllUsers();
     }
+
+    @PutMapping("/{id}/roles")
+    @PreAuthorize("hasRole('ADMIN')")
+    public UserDto updateRoles(@PathVariable("id") Long id,
+                               @Valid @RequestBody UpdateUserRolesRequest request) {
+        return userService.updateRoles(id, request.roles());
+    }
 }
 
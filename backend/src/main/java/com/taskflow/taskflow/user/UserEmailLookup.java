@@ -0,0 +1,14 @@
+package com.taskflow.taskflow.user;
+
+import java.util.Optional;
+
+/**
+ * Email lookup through the second-level cached natural id; mixed into {@link UserRepository}.
+ */
+public interface UserEmailLookup {
+
+    /**
+     * Resolves a user by email with roles initialised, usually without touching the database.
+     */
+    Optional<UserAccount> lookupByEmail(String email);
+}
@@ -0,0 +1,38 @@
+package com.taskflow.taskflow.user;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.hibernate.Hibernate;
+import org.hibernate.Session;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Locale;
+import java.util.Optional;
+
+/**
+ * Natural-id loads hit the `users-by-email` and `users` cache regions; roles come from `user-roles`.
+ * Accounts stored before emails were lower-cased are not found by the exact natural id, so a miss falls back to the
+ * case-insensitive query.
+ */
+class UserEmailLookupImpl implements UserEmailLookup {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    @Transactional(readOnly = true)
+    public Optional<UserAccount> lookupByEmail(String email) {
+        Optional<UserAccount> user = entityManager.unwrap(Session.class)
+                .bySimpleNaturalId(UserAccount.class)
+                .loadOptional(email.toLowerCase(Locale.ROOT));
+        if (user.isEmpty()) {
+            user = entityManager.createQuery("select u from UserAccount u where lower(u.email) = :email", UserAccount.class)
+                    .setParameter("email", email.toLowerCase(Locale.ROOT))
+                    .getResultStream()
+                    .findFirst();
+        }
+        // Callers (auth, principal cache) may use the roles after the session closes.
+        user.ifPresent(account -> Hibernate.initialize(account.getRoles()));
+        return user;
+    }
+}
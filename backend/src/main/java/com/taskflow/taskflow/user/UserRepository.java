@@ -1,15 +1,19 @@
 package com.taskflow.taskflow.user;
 
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 
-import java.util.Optional;
+import java.util.List;
 
 /**
  * Spring Data repository gives us CRUD methods without manual implementation.
+ * Prefer {@link #lookupByEmail} for single-user lookups; it is served from the second-level cache.
  */
-public interface UserRepository extends JpaRepository<UserAccount, Long> {
+public interface UserRepository extends JpaRepository<UserAccount, Long>, UserEmailLookup {
 
-    Optional<UserAccount> findByEmailIgnoreCase(String email);
+    @Override
+    @EntityGraph(attributePaths = "roles")
+    List<UserAccount> findAll();
 
     boolean existsByEmailIgnoreCase(String email);
 }
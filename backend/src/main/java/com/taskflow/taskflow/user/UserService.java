@@ -1,12 +1,18 @@
 package com.taskflow.taskflow.user;
 
 import com.taskflow.taskflow.user.dto.UserDto;
+import io.micrometer.core.annotation.Timed;
 import org.mapstruct.Mapper;
 import org.mapstruct.Mapping;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
+import java.util.Locale;
+import java.util.Optional;
+import java.util.Set;
 
 /**
  * Business logic for user management. In bigger apps, you'd split enrolment vs admin features.
@@ -17,20 +23,24 @@ public class UserService {
     private final UserRepository userRepository;
     private final PasswordEncoder passwordEncoder;
     private final UserMapper userMapper;
+    private final ApplicationEventPublisher eventPublisher;
 
     public UserService(UserRepository userRepository,
                        PasswordEncoder passwordEncoder,
-                       UserMapper userMapper) {
+                       UserMapper userMapper,
+                       ApplicationEventPublisher eventPublisher) {
         // Constructor injection simplifies testing and makes dependencies explicit.
         this.userRepository = userRepository;
         this.passwordEncoder = passwordEncoder;
         this.userMapper = userMapper;
+        this.eventPublisher = eventPublisher;
     }
 
+    @Timed("taskflow.users.create")
     public UserAccount createMember(String email, String fullName, String rawPassword) {
         // Hash the raw password before persisting the user record.
         UserAccount user = UserAccount.builder()
-                .email(email)
+                .email(email.toLowerCase(Locale.ROOT))
                 .fullName(fullName)
                 .passwordHash(passwordEncoder.encode(rawPassword))
                 .build();
@@ -38,16 +48,39 @@ public class UserService {
         return userRepository.save(user);
     }
 
+    @Timed("taskflow.users.exists")
     public boolean emailTaken(String email) {
         // Used during registration to show a friendly "already exists" message.
         return userRepository.existsByEmailIgnoreCase(email);
     }
 
+    @Timed("taskflow.users.get")
     public UserAccount getByEmail(String email) {
-        return userRepository.findByEmailIgnoreCase(email)
+        return findByEmail(email)
                 .orElseThrow(() -> new IllegalArgumentException("User not found: " + email));
     }
 
+    /**
+     * For callers where an unknown email is an ordinary outcome rather than a bad request.
+     */
+    @Timed("taskflow.users.get")
+    public Optional<UserAccount> findByEmail(String email) {
+        return userRepository.lookupByEmail(email);
+    }
+
+    @Timed("taskflow.users.roles")
+    @Transactional
+    public UserDto updateRoles(Long userId, Set<UserRole> roles) {
+        UserAccount user = userRepository.findById(userId)
+                .orElseThrow(() -> new IllegalArgumentException("User not found: " + userId));
+        user.getRoles().clear();
+        user.getRoles().addAll(roles);
+        // Cached principals still carry the old authorities until this event evicts them.
+        eventPublisher.publishEvent(new UserAccountChangedEvent(user.getEmail()));
+        return userMapper.toDto(userRepository.save(user));
+    }
+
+    @Timed("taskflow.users.list")
     public List<UserDto> findAllUsers() {
         return userRepository.findAll()
                 .stream()
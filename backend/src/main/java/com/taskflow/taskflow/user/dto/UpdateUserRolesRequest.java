@@ -0,0 +1,14 @@
+package com.taskflow.taskflow.user.dto;
+
+import com.taskflow.taskflow.user.UserRole;
+import jakarta.validation.constraints.NotEmpty;
+
+import java.util.Set;
+
+/**
+ * Admin payload replacing the full set of roles on a user.
+ */
+public record UpdateUserRolesRequest(
+        @NotEmpty Set<UserRole> roles
+) {
+}
@@ -0,0 +1,105 @@
+package com.taskflow.taskflow.comment;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class CommentStatsServiceTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private CommentStatsService commentStatsService;
+
+    private String bearer;
+
+    @Test
+    void repairsDriftedCountsAndInvalidatesOnlyTheirProjects() throws Exception {
+        bearer = "Bearer " + json(mockMvc.perform(post("/api/auth/login")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"email\":\"admin@taskflow.dev\",\"password\":\"changeme\"}"))
+                .andExpect(status().isOk())
+                .andReturn()).get("accessToken").asText();
+        long drifted = createProject("Drifted");
+        long taskId = createTask(drifted);
+        mockMvc.perform(authorized(post("/api/tasks/{id}/comments", taskId))
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"body\":\"only comment\"}"))
+                .andExpect(status().isCreated());
+        long untouched = createProject("Untouched");
+        createTask(untouched);
+
+        // A write outside the API: nothing bumps the project version, so cached listings still revalidate as current.
+        jdbcTemplate.update("update tasks set comment_count = 5, last_comment_at = null where id = ?", taskId);
+        String driftedTag = etag(drifted);
+        String untouchedTag = etag(untouched);
+
+        commentStatsService.reconcile();
+
+        MvcResult repaired = mockMvc.perform(authorized(get("/api/projects/{id}/tasks", drifted))
+                        .header(HttpHeaders.IF_NONE_MATCH, driftedTag))
+                .andExpect(status().isOk())
+                .andReturn();
+        JsonNode task = json(repaired).get("items").get(0);
+        assertThat(task.get("commentCount").asInt()).isEqualTo(1);
+        assertThat(task.get("lastCommentAt").isNull()).isFalse();
+        mockMvc.perform(authorized(get("/api/projects/{id}/tasks", untouched))
+                        .header(HttpHeaders.IF_NONE_MATCH, untouchedTag))
+                .andExpect(status().isNotModified());
+    }
+
+    private String etag(long projectId) throws Exception {
+        return mockMvc.perform(authorized(get("/api/projects/{id}/tasks", projectId)))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+    }
+
+    private long createProject(String name) throws Exception {
+        return json(mockMvc.perform(authorized(post("/api/projects"))
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"name\":\"" + name + "\"}"))
+                .andExpect(status().isCreated())
+                .andReturn()).get("id").asLong();
+    }
+
+    private long createTask(long projectId) throws Exception {
+        return json(mockMvc.perform(authorized(post("/api/projects/{id}/tasks", projectId))
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"title\":\"commented\",\"status\":\"BACKLOG\"}"))
+                .andExpect(status().isCreated())
+                .andReturn()).get("id").asLong();
+    }
+
+    private MockHttpServletRequestBuilder authorized(MockHttpServletRequestBuilder request) {
+        return request.header(HttpHeaders.AUTHORIZATION, bearer);
+    }
+
+    private JsonNode json(MvcResult result) throws Exception {
+        return objectMapper.readTree(result.getResponse().getContentAsByteArray());
+    }
+}
@@ -0,0 +1,165 @@
+package com.taskflow.taskflow.common;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.taskflow.taskflow.config.SqlBudgetProperties;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.ResultMatcher;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+import org.springframework.web.method.HandlerMethod;
+
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.patch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Pins the number of SQL statements each endpoint issues on its warm path, so a lazy load or N+1 that creeps into a
+ * fetch plan fails the build instead of showing up in production latency.
+ * MockMvc runs the request on the test thread, so {@link SqlStatementCounter} sees exactly that request's statements,
+ * counted at the JDBC layer: version bumps and board counter deltas written through `JdbcTemplate` are included.
+ * Steps share state (tokens, ids, warmed caches) and therefore run in one test, in order.
+ * The `test` profile turns on strict SQL budgets, and the run must reach every handler listed under
+ * `app.sql-budget.endpoints`, so a budget cannot be added or tightened without being exercised here.
+ * The counts include sequence block fetches, so the test starts from a fresh context and in-memory database rather than
+ * one other integration tests have written to, which would leave the pooled id blocks in a different state.
+ */
+@SpringBootTest
+@DirtiesContext(classMode = DirtiesContext.ClassMode.BEFORE_CLASS)
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class EndpointStatementCountTest {
+
+    private static final String ADMIN_EMAIL = "admin@taskflow.dev";
+    private static final String MEMBER_EMAIL = "member@taskflow.dev";
+    private static final String PASSWORD = "changeme";
+    private static final int IMPORTED_ROWS = 120;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private SqlBudgetProperties sqlBudgetProperties;
+
+    private final Set<String> exercisedHandlers = new TreeSet<>();
+
+    private String bearer;
+
+    @Test
+    void endpointsStayWithinTheirStatementCounts() throws Exception {
+        // Warm the principal and second-level caches so every count below is the steady-state one.
+        bearer = "Bearer " + json(mockMvc.perform(post("/api/auth/login")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(credentials(ADMIN_EMAIL, PASSWORD))).andReturn()).get("accessToken").asText();
+        mockMvc.perform(get("/api/projects").header(HttpHeaders.AUTHORIZATION, bearer));
+
+        expectStatements(1, status().isOk(), post("/api/auth/login")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(credentials(ADMIN_EMAIL, PASSWORD)));
+        JsonNode registered = json(expectStatements(4, status().isCreated(), post("/api/auth/register")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"email\":\"counted@taskflow.dev\",\"fullName\":\"Counted User\",\"password\":\"password1\"}")));
+        JsonNode refreshed = json(expectStatements(3, status().isOk(), post("/api/auth/refresh")
+                .header(HttpHeaders.AUTHORIZATION, "Bearer " + registered.get("refreshToken").asText())));
+        expectStatements(1, status().isNoContent(), post("/api/auth/logout")
+                .header(HttpHeaders.AUTHORIZATION, "Bearer " + refreshed.get("refreshToken").asText()));
+
+        expectStatements(1, status().isOk(), authorized(get("/api/users")));
+        Long memberId = null;
+        for (JsonNode user : json(mockMvc.perform(authorized(get("/api/users"))).andReturn())) {
+            if (MEMBER_EMAIL.equals(user.get("email").asText())) {
+                memberId = user.get("id").asLong();
+            }
+        }
+        expectStatements(0, status().isOk(), authorized(put("/api/users/{id}/roles", memberId))
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"roles\":[\"MEMBER\"]}"));
+
+        expectStatements(1, status().isOk(), authorized(get("/api/projects")));
+        long projectId = json(expectStatements(2, status().isCreated(), authorized(post("/api/projects"))
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"name\":\"Counted\"}"))).get("id").asLong();
+        expectStatements(2, status().isOk(), authorized(get("/api/projects/{id}", projectId)));
+        expectStatements(4, status().isOk(), authorized(put("/api/projects/{id}", projectId))
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"name\":\"Counted again\",\"description\":\"d\"}"));
+
+        long taskId = json(expectStatements(7, status().isCreated(), authorized(post("/api/projects/{id}/tasks", projectId))
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"title\":\"t\",\"status\":\"BACKLOG\",\"assigneeEmail\":\"" + MEMBER_EMAIL + "\"}")))
+                .get("id").asLong();
+        String rows = IntStream.range(0, IMPORTED_ROWS)
+                .mapToObj(i -> "{\"title\":\"imported " + i + "\",\"status\":\"BACKLOG\",\"assigneeEmail\":\"" + MEMBER_EMAIL + "\"}")
+                .collect(Collectors.joining("\n"));
+        // Batched inserts and pooled sequence blocks: a handful of statements for the whole chunk, not one per row.
+        expectStatements(9, status().isOk(), authorized(post("/api/projects/{id}/tasks/import", projectId))
+                .contentType("application/x-ndjson")
+                .content(rows));
+        expectStatements(2, status().isOk(), authorized(get("/api/projects/{id}/tasks", projectId)).param("limit", "50"));
+        expectStatements(1, status().isOk(), authorized(get("/api/projects/{id}/tasks/export", projectId)).param("format", "csv"));
+
+        expectStatements(7, status().isOk(), authorized(patch("/api/tasks/{id}/status", taskId))
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"status\":\"DONE\"}"));
+        expectStatements(7, status().isOk(), authorized(put("/api/tasks/{id}", taskId))
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"title\":\"t2\",\"status\":\"IN_PROGRESS\",\"assigneeEmail\":\"" + MEMBER_EMAIL + "\"}"));
+        expectStatements(6, status().isCreated(), authorized(post("/api/tasks/{id}/comments", taskId))
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"body\":\"hello\"}"));
+        expectStatements(2, status().isOk(), authorized(get("/api/tasks/{id}/comments", taskId)));
+        expectStatements(2, status().isOk(), authorized(get("/api/projects/{id}/summary", projectId)));
+        expectStatements(1, status().isOk(), authorized(get("/api/search/tasks")).param("q", "imported"));
+
+        expectStatements(9, status().isNoContent(), authorized(delete("/api/tasks/{id}", taskId)));
+        expectStatements(7, status().isNoContent(), authorized(delete("/api/projects/{id}", projectId)));
+
+        assertThat(sqlBudgetProperties.isStrict()).isTrue();
+        assertThat(exercisedHandlers).containsAll(sqlBudgetProperties.getEndpoints().keySet());
+    }
+
+    private MvcResult expectStatements(long expected, ResultMatcher status, MockHttpServletRequestBuilder request)
+            throws Exception {
+        SqlStatementCounter.reset();
+        MvcResult result = mockMvc.perform(request).andExpect(status).andReturn();
+        if (result.getHandler() instanceof HandlerMethod handler) {
+            exercisedHandlers.add(handler.getBeanType().getSimpleName() + "." + handler.getMethod().getName());
+        }
+        assertThat(SqlStatementCounter.count())
+                .as("SQL statements for %s %s", result.getRequest().getMethod(), result.getRequest().getRequestURI())
+                .isEqualTo(expected);
+        return result;
+    }
+
+    private MockHttpServletRequestBuilder authorized(MockHttpServletRequestBuilder request) {
+        return request.header(HttpHeaders.AUTHORIZATION, bearer);
+    }
+
+    private JsonNode json(MvcResult result) throws Exception {
+        return objectMapper.readTree(result.getResponse().getContentAsByteArray());
+    }
+
+    private static String credentials(String email, String password) {
+        return "{\"email\":\"" + email + "\",\"password\":\"" + password + "\"}";
+    }
+}
@@ -0,0 +1,43 @@
+package com.taskflow.taskflow.common;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.server.ResponseStatusException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class IfMatchTest {
+
+    @Test
+    void absentOrWildcardHeaderIsAnUnconditionalWrite() {
+        assertThat(IfMatch.expectedVersion(null)).isNull();
+        assertThat(IfMatch.expectedVersion(" ")).isNull();
+        assertThat(IfMatch.expectedVersion("*")).isNull();
+    }
+
+    @Test
+    void strongVersionTagRoundTrips() {
+        assertThat(IfMatch.expectedVersion(IfMatch.etag(7))).isEqualTo(7L);
+        assertThat(IfMatch.expectedVersion(" \"0\" ")).isZero();
+    }
+
+    @Test
+    void weakReadTagFailsThePreconditionWithAHint() {
+        assertThatThrownBy(() -> IfMatch.expectedVersion("W/\"p1-v3-abc\""))
+                .isInstanceOfSatisfying(ResponseStatusException.class, e -> {
+                    assertThat(e.getStatusCode()).isEqualTo(HttpStatus.PRECONDITION_FAILED);
+                    assertThat(e.getReason()).contains("not a weak read ETag");
+                });
+    }
+
+    @Test
+    void foreignTagsAndListsFailThePrecondition() {
+        for (String header : new String[]{"\"abc\"", "3", "\"\"", "\"1\", \"2\""}) {
+            assertThatThrownBy(() -> IfMatch.expectedVersion(header))
+                    .as(header)
+                    .isInstanceOfSatisfying(ResponseStatusException.class,
+                            e -> assertThat(e.getStatusCode()).isEqualTo(HttpStatus.PRECONDITION_FAILED));
+        }
+    }
+}
@@ -0,0 +1,75 @@
+package com.taskflow.taskflow.common;
+
+import com.taskflow.taskflow.config.OptimisticLockingProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.http.HttpStatus;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+
+class OptimisticWritesTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final OptimisticLockingProperties properties = new OptimisticLockingProperties();
+    private final OptimisticWrites writes =
+            new OptimisticWrites(mock(PlatformTransactionManager.class), meterRegistry, properties);
+
+    @Test
+    void conditionalWriteFailsWith412WithoutRetrying() {
+        AtomicInteger attempts = new AtomicInteger();
+
+        assertThatThrownBy(() -> writes.execute("task", "status", true, alwaysLosing(attempts)))
+                .isInstanceOfSatisfying(ResponseStatusException.class,
+                        e -> assertThat(e.getStatusCode()).isEqualTo(HttpStatus.PRECONDITION_FAILED));
+        assertThat(attempts).hasValue(1);
+        assertThat(meterRegistry.counter("taskflow.writes.conflicts", "entity", "task", "operation", "status").count())
+                .isEqualTo(1);
+    }
+
+    @Test
+    void unconditionalWriteRetriesUntilItWins() {
+        AtomicInteger attempts = new AtomicInteger();
+
+        String result = writes.execute("task", "update", false,
+                () -> attempts.incrementAndGet() == 1 ? lose() : "written");
+
+        assertThat(result).isEqualTo("written");
+        assertThat(attempts).hasValue(2);
+        assertThat(meterRegistry.counter("taskflow.writes.retries", "entity", "task", "operation", "update").count())
+                .isEqualTo(1);
+    }
+
+    @Test
+    void unconditionalWriteGivesUpWith409AfterMaxAttempts() {
+        properties.setMaxAttempts(4);
+        AtomicInteger attempts = new AtomicInteger();
+
+        assertThatThrownBy(() -> writes.execute("project", "update", false, alwaysLosing(attempts)))
+                .isInstanceOfSatisfying(ResponseStatusException.class,
+                        e -> assertThat(e.getStatusCode()).isEqualTo(HttpStatus.CONFLICT));
+        assertThat(attempts).hasValue(4);
+        assertThat(meterRegistry.counter("taskflow.writes.retries", "entity", "project", "operation", "update").count())
+                .isEqualTo(3);
+        assertThat(meterRegistry.counter("taskflow.writes.conflicts", "entity", "project", "operation", "update").count())
+                .isEqualTo(1);
+    }
+
+    private static Supplier<String> alwaysLosing(AtomicInteger attempts) {
+        return () -> {
+            attempts.incrementAndGet();
+            return lose();
+        };
+    }
+
+    private static String lose() {
+        throw new OptimisticLockingFailureException("version changed");
+    }
+}
@@ -0,0 +1,77 @@
+package com.taskflow.taskflow.search;
+
+import com.taskflow.taskflow.search.dto.TaskSearchHit;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TaskSearchIndexTest {
+
+    private final TaskSearchIndex index = new TaskSearchIndex();
+
+    @Test
+    void smallProjectOnlySeesItsOwnTasks() {
+        // One large foreign project makes the caller's tasks the cheaper side to walk.
+        for (long id = 1; id <= 500; id++) {
+            index.upsertTask(id, 1L, "release notes " + id, null);
+        }
+        index.upsertTask(1001L, 2L, "release checklist", null);
+        index.upsertTask(1002L, 2L, "unrelated", null);
+
+        assertThat(taskIds(index.search("release", Set.of(2L), 10))).containsExactly(1001L);
+        assertThat(index.search("release", Set.of(3L), 10)).isEmpty();
+    }
+
+    @Test
+    void largeProjectWalksPostingsAndStillFiltersForeignProjects() {
+        for (long id = 1; id <= 200; id++) {
+            index.upsertTask(id, 1L, "filler " + id, null);
+        }
+        index.upsertTask(500L, 1L, "deploy service", null);
+        index.upsertTask(600L, 2L, "deploy database", null);
+
+        assertThat(taskIds(index.search("deploy", Set.of(1L), 10))).containsExactly(500L);
+        assertThat(taskIds(index.search("deploy", Set.of(1L, 2L), 10))).containsExactlyInAnyOrder(500L, 600L);
+    }
+
+    @Test
+    void everyQueryTermMustMatchInBothPaths() {
+        index.upsertTask(1L, 1L, "deploy service", null);
+        index.upsertTask(2L, 1L, "deploy database", null);
+        index.addComment(2L, "blocked on review");
+
+        assertThat(taskIds(index.search("deploy review", Set.of(1L), 10))).containsExactly(2L);
+        assertThat(taskIds(index.search("review deploy", Set.of(1L, 9L), 10))).containsExactly(2L);
+    }
+
+    @Test
+    void shortPrefixKeepsTheMostFrequentExpansions() {
+        // More rare terms than the expansion cap, all sorting before the common one.
+        for (int i = 0; i < TaskSearchIndex.MAX_PREFIX_EXPANSIONS + 10; i++) {
+            index.upsertTask(1_000L + i, 1L, "ta" + (char) ('a' + i / 26) + (char) ('a' + i % 26), null);
+        }
+        for (long id = 1; id <= 5; id++) {
+            index.upsertTask(id, 1L, "tasks", null);
+        }
+
+        assertThat(taskIds(index.search("ta", Set.of(1L), 100))).contains(1L, 2L, 3L, 4L, 5L);
+    }
+
+    @Test
+    void removedTasksAndProjectsLeaveTheIndex() {
+        index.upsertTask(1L, 1L, "alpha", null);
+        index.upsertTask(2L, 2L, "alpha", null);
+        index.removeTask(1L);
+        index.removeProject(2L);
+
+        assertThat(index.search("alpha", Set.of(1L, 2L), 10)).isEmpty();
+        assertThat(index.size()).isZero();
+    }
+
+    private static List<Long> taskIds(List<TaskSearchHit> hits) {
+        return hits.stream().map(TaskSearchHit::taskId).toList();
+    }
+}
@@ -0,0 +1,92 @@
+package com.taskflow.taskflow.search;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Search through the HTTP layer: a user only ever finds tasks in projects they own.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class TaskSearchScopingTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Test
+    void usersOnlyFindTasksInTheirOwnProjects() throws Exception {
+        String alice = register("alice.search@taskflow.dev");
+        String bob = register("bob.search@taskflow.dev");
+        long aliceProject = createProject(alice, "Alice");
+        long aliceTask = createTask(alice, aliceProject, "zebra migration plan");
+        long bobProject = createProject(bob, "Bob");
+        long bobTask = createTask(bob, bobProject, "zebra crossing survey");
+
+        assertThat(search(alice, "zebra")).containsExactly(aliceTask);
+        assertThat(search(bob, "zeb")).containsExactly(bobTask);
+        assertThat(search(alice, "crossing")).isEmpty();
+
+        // Naming someone else's project answers exactly like a missing one.
+        mockMvc.perform(get("/api/search/tasks").header(HttpHeaders.AUTHORIZATION, alice)
+                        .param("q", "zebra")
+                        .param("projectId", Long.toString(bobProject)))
+                .andExpect(status().isNotFound());
+    }
+
+    private List<Long> search(String bearer, String query) throws Exception {
+        List<Long> ids = new ArrayList<>();
+        json(mockMvc.perform(get("/api/search/tasks").header(HttpHeaders.AUTHORIZATION, bearer).param("q", query))
+                .andExpect(status().isOk())
+                .andReturn()).forEach(hit -> ids.add(hit.get("taskId").asLong()));
+        return ids;
+    }
+
+    private String register(String email) throws Exception {
+        return "Bearer " + json(mockMvc.perform(post("/api/auth/register")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"email\":\"" + email + "\",\"fullName\":\"Search User\",\"password\":\"password1\"}"))
+                .andExpect(status().isCreated())
+                .andReturn()).get("accessToken").asText();
+    }
+
+    private long createProject(String bearer, String name) throws Exception {
+        return json(mockMvc.perform(post("/api/projects").header(HttpHeaders.AUTHORIZATION, bearer)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"name\":\"" + name + "\"}"))
+                .andExpect(status().isCreated())
+                .andReturn()).get("id").asLong();
+    }
+
+    private long createTask(String bearer, long projectId, String title) throws Exception {
+        return json(mockMvc.perform(post("/api/projects/{id}/tasks", projectId).header(HttpHeaders.AUTHORIZATION, bearer)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"title\":\"" + title + "\",\"status\":\"BACKLOG\"}"))
+                .andExpect(status().isCreated())
+                .andReturn()).get("id").asLong();
+    }
+
+    private JsonNode json(MvcResult result) throws Exception {
+        return objectMapper.readTree(result.getResponse().getContentAsByteArray());
+    }
+}
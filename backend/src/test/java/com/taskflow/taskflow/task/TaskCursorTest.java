@@ -0,0 +1,44 @@
+package com.taskflow.taskflow.task;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.time.Instant;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class TaskCursorTest {
+
+    @Test
+    void roundTripsBothSortOrders() {
+        TaskCursor byId = new TaskCursor(TaskSortField.ID, null, 42L);
+        TaskCursor byUpdate = new TaskCursor(TaskSortField.UPDATED_AT, Instant.parse("2024-06-01T10:15:30.123456Z"), 7L);
+
+        assertThat(TaskCursor.decode(byId.encode(), TaskSortField.ID)).isEqualTo(byId);
+        assertThat(TaskCursor.decode(byUpdate.encode(), TaskSortField.UPDATED_AT)).isEqualTo(byUpdate);
+        assertThat(byUpdate.encode()).doesNotContain("=", "+", "/");
+    }
+
+    @Test
+    void cursorFromAnotherOrderingIsRejected() {
+        String token = new TaskCursor(TaskSortField.ID, null, 42L).encode();
+
+        assertBadRequest(token, TaskSortField.UPDATED_AT);
+    }
+
+    @Test
+    void malformedTokensAreBadRequests() {
+        assertBadRequest("not base64!", TaskSortField.ID);
+        assertBadRequest(new TaskCursor(TaskSortField.ID, null, 1L).encode().substring(2), TaskSortField.ID);
+        assertBadRequest("", TaskSortField.ID);
+    }
+
+    private static void assertBadRequest(String token, TaskSortField sort) {
+        assertThatThrownBy(() -> TaskCursor.decode(token, sort))
+                .as(token)
+                .isInstanceOfSatisfying(ResponseStatusException.class,
+                        e -> assertThat(e.getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST));
+    }
+}
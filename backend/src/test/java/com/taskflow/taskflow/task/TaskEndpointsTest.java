@@ -0,0 +1,188 @@
+package com.taskflow.taskflow.task;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.taskflow.taskflow.common.IfMatch;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.containsString;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.patch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Write preconditions, keyset paging and listing revalidation, driven through the HTTP layer.
+ * Each test works in a project of its own.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class TaskEndpointsTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private String bearer;
+
+    @BeforeEach
+    void logIn() throws Exception {
+        bearer = "Bearer " + json(mockMvc.perform(post("/api/auth/login")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"email\":\"admin@taskflow.dev\",\"password\":\"changeme\"}"))
+                .andExpect(status().isOk())
+                .andReturn()).get("accessToken").asText();
+    }
+
+    @Test
+    void writeWithAStaleVersionFailsItsPrecondition() throws Exception {
+        long projectId = createProject("If-Match");
+        JsonNode task = createTask(projectId, "contended");
+        long version = task.get("version").asLong();
+
+        mockMvc.perform(authorized(patch("/api/tasks/{id}/status", task.get("id").asLong()))
+                        .header(HttpHeaders.IF_MATCH, IfMatch.etag(version))
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"status\":\"IN_PROGRESS\"}"))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, IfMatch.etag(version + 1)));
+        // Another client still holding the old version loses.
+        mockMvc.perform(authorized(patch("/api/tasks/{id}/status", task.get("id").asLong()))
+                        .header(HttpHeaders.IF_MATCH, IfMatch.etag(version))
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"status\":\"DONE\"}"))
+                .andExpect(status().isPreconditionFailed());
+
+        String readTag = listTasks(projectId, "").getResponse().getHeader(HttpHeaders.ETAG);
+        mockMvc.perform(authorized(patch("/api/tasks/{id}/status", task.get("id").asLong()))
+                        .header(HttpHeaders.IF_MATCH, readTag)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"status\":\"DONE\"}"))
+                .andExpect(status().isPreconditionFailed())
+                .andExpect(jsonPath("$.message").value(containsString("weak read ETag")));
+
+        JsonNode current = json(listTasks(projectId, "")).get("items").get(0);
+        assertThat(current.get("status").asText()).isEqualTo("IN_PROGRESS");
+        assertThat(current.get("version").asLong()).isEqualTo(version + 1);
+    }
+
+    @Test
+    void keysetPagesBreakUpdatedAtTiesById() throws Exception {
+        long projectId = createProject("Ties");
+        importRows(projectId, 7);
+        // Every row shares one sort value, so only the id tie-breaker keeps pages from skipping or repeating rows.
+        jdbcTemplate.update("update tasks set updated_at = ? where project_id = ?",
+                Timestamp.from(Instant.parse("2024-06-01T00:00:00Z")), projectId);
+
+        List<Long> ascending = pageThrough(projectId, "ASC");
+        List<Long> descending = pageThrough(projectId, "DESC");
+
+        assertThat(ascending).hasSize(7).doesNotHaveDuplicates().isSorted();
+        assertThat(descending).isSortedAccordingTo(Comparator.reverseOrder())
+                .containsExactlyInAnyOrderElementsOf(ascending);
+    }
+
+    @Test
+    void listingRevalidatesUntilTheProjectChanges() throws Exception {
+        long projectId = createProject("ETag");
+        createTask(projectId, "first");
+        String etag = listTasks(projectId, "").getResponse().getHeader(HttpHeaders.ETAG);
+        assertThat(etag).startsWith("W/\"p" + projectId + "-v");
+
+        mockMvc.perform(authorized(get("/api/projects/{id}/tasks", projectId)).header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isNotModified());
+        // Another query string is another representation with a tag of its own. The variant is read from the raw query
+        // string, which MockMvc only fills from the URI, not from param().
+        mockMvc.perform(authorized(get("/api/projects/" + projectId + "/tasks?limit=10"))
+                        .header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isOk());
+
+        createTask(projectId, "second");
+        MvcResult changed = mockMvc.perform(authorized(get("/api/projects/{id}/tasks", projectId))
+                        .header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isOk())
+                .andReturn();
+        assertThat(changed.getResponse().getHeader(HttpHeaders.ETAG)).isNotEqualTo(etag);
+        assertThat(json(changed).get("items")).hasSize(2);
+    }
+
+    private List<Long> pageThrough(long projectId, String direction) throws Exception {
+        List<Long> ids = new ArrayList<>();
+        String cursor = null;
+        do {
+            String query = "?sort=UPDATED_AT&direction=" + direction + "&limit=3" + (cursor == null ? "" : "&cursor=" + cursor);
+            JsonNode page = json(listTasks(projectId, query));
+            page.get("items").forEach(item -> ids.add(item.get("id").asLong()));
+            cursor = page.get("nextCursor").isNull() ? null : page.get("nextCursor").asText();
+        } while (cursor != null);
+        return ids;
+    }
+
+    private MvcResult listTasks(long projectId, String query) throws Exception {
+        return mockMvc.perform(authorized(get("/api/projects/" + projectId + "/tasks" + query)))
+                .andExpect(status().isOk())
+                .andReturn();
+    }
+
+    private long createProject(String name) throws Exception {
+        return json(mockMvc.perform(authorized(post("/api/projects"))
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"name\":\"" + name + "\"}"))
+                .andExpect(status().isCreated())
+                .andReturn()).get("id").asLong();
+    }
+
+    private JsonNode createTask(long projectId, String title) throws Exception {
+        return json(mockMvc.perform(authorized(post("/api/projects/{id}/tasks", projectId))
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"title\":\"" + title + "\",\"status\":\"BACKLOG\"}"))
+                .andExpect(status().isCreated())
+                .andReturn());
+    }
+
+    private void importRows(long projectId, int rows) throws Exception {
+        mockMvc.perform(authorized(post("/api/projects/{id}/tasks/import", projectId))
+                        .contentType("application/x-ndjson")
+                        .content(IntStream.range(0, rows)
+                                .mapToObj(i -> "{\"title\":\"row " + i + "\",\"status\":\"BACKLOG\"}")
+                                .collect(Collectors.joining("\n"))))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.imported").value(rows));
+    }
+
+    private MockHttpServletRequestBuilder authorized(MockHttpServletRequestBuilder request) {
+        return request.header(HttpHeaders.AUTHORIZATION, bearer);
+    }
+
+    private JsonNode json(MvcResult result) throws Exception {
+        return objectMapper.readTree(result.getResponse().getContentAsByteArray());
+    }
+}
@@ -21,9 +21,11 @@ export const getProject = async (id) => {
     const { data } = await api.get(`/projects/${id}`);
     return data;
 };
-// Convenience getter used by the detail page to fetch tasks separately.
-export const getProjectTasks = async (projectId) => {
-    const { data } = await api.get(`/projects/${projectId}/tasks`);
+// One page of a project's tasks, used by the detail page; the board asks for the next page as the user scrolls.
+export const getProjectTasks = async (projectId, cursor) => {
+    const { data } = await api.get(`/projects/${projectId}/tasks`, {
+        params: { limit: 50, cursor }
+    });
     return data;
 };
 // Save a new task associated with the given project.
@@ -40,9 +42,11 @@ export const updateTaskStatus = async (taskId, payload) => {
     const { data } = await api.patch(`/tasks/${taskId}/status`, payload);
     return data;
 };
-// Retrieve comments for a task; used when the user expands the comment section.
-export const getTaskComments = async (taskId) => {
-    const { data } = await api.get(`/tasks/${taskId}/comments`);
+// Retrieve one page of a task's comments, oldest first; used when the user expands the comment section.
+export const getTaskComments = async (taskId, cursor) => {
+    const { data } = await api.get(`/tasks/${taskId}/comments`, {
+        params: { cursor }
+    });
     return data;
 };
 // Post a comment to the backend and return the saved comment DTO.
@@ -17,7 +17,9 @@ export type Task = {
   assigneeEmail: string | null;
   createdAt: string;
   updatedAt: string;
-  comments: TaskComment[];
+  commentCount: number;
+  lastCommentAt: string | null;
+  version: number;
 };
 
 export type Project = {
@@ -26,9 +28,15 @@ export type Project = {
   description: string | null;
   ownerEmail: string;
   createdAt: string;
+  version: number;
   tasks: Task[];
 };
 
+export type CursorPage<T> = {
+  items: T[];
+  nextCursor: string | null;
+};
+
 export type CreateProjectPayload = {
   name: string;
   description?: string;
@@ -90,9 +98,11 @@ export const getProject = async (id: number) => {
   return data;
 };
 
-// Convenience getter used by the detail page to fetch tasks separately.
-export const getProjectTasks = async (projectId: number) => {
-  const { data } = await api.get<Task[]>(`/projects/${projectId}/tasks`);
+// One page of a project's tasks, used by the detail page; the board asks for the next page as the user scrolls.
+export const getProjectTasks = async (projectId: number, cursor?: string) => {
+  const { data } = await api.get<CursorPage<Task>>(`/projects/${projectId}/tasks`, {
+    params: { limit: 50, cursor }
+  });
   return data;
 };
 
@@ -113,9 +123,11 @@ export const updateTaskStatus = async (taskId: number, payload: UpdateTaskStatus
   return data;
 };
 
-// Retrieve comments for a task; used when the user expands the comment section.
-export const getTaskComments = async (taskId: number) => {
-  const { data } = await api.get<TaskComment[]>(`/tasks/${taskId}/comments`);
+// Retrieve one page of a task's comments, oldest first; used when the user expands the comment section.
+export const getTaskComments = async (taskId: number, cursor?: string) => {
+  const { data } = await api.get<CursorPage<TaskComment>>(`/tasks/${taskId}/comments`, {
+    params: { cursor }
+  });
   return data;
 };
 
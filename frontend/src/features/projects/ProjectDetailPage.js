@@ -1,6 +1,6 @@
 import { jsx as _jsx, jsxs as _jsxs, Fragment as _Fragment } from "react/jsx-runtime";
-import { useMemo, useState } from "react";
-import { useMutation, useQuery, useQueryClient } from "@tanstack/react-query";
+import { useEffect, useMemo, useRef, useState } from "react";
+import { useInfiniteQuery, useMutation, useQuery, useQueryClient } from "@tanstack/react-query";
 import { Link, useParams } from "react-router-dom";
 import { addComment, createTask, deleteProject, deleteTask, getProject, getProjectTasks, getTaskComments, updateProject, updateTask, updateTaskStatus } from "../../api/projects";
 import { TaskStatus, taskStatusLabels } from "../tasks/taskTypes";
@@ -10,18 +10,21 @@ import relativeTime from "dayjs/plugin/relativeTime";
 import { useNavigate } from "react-router-dom";
 dayjs.extend(relativeTime);
 /**
- * Inner component that loads comments lazily once the user expands the section.
+ * Inner component that loads comments lazily once the user expands the section, one page at a time.
  */
 const TaskComments = ({ taskId }) => {
-    const commentsQuery = useQuery({
+    const commentsQuery = useInfiniteQuery({
         queryKey: ["task", taskId, "comments"],
-        queryFn: () => getTaskComments(taskId)
+        queryFn: ({ pageParam }) => getTaskComments(taskId, pageParam),
+        initialPageParam: undefined,
+        getNextPageParam: (lastPage) => lastPage.nextCursor ?? undefined
     });
     if (commentsQuery.isLoading)
         return _jsx("p", { children: "Loading comments..." });
     if (commentsQuery.isError)
         return _jsx("p", { style: { color: "crimson" }, children: "Could not load comments. Try refreshing." });
-    return (_jsxs("div", { children: [commentsQuery.data?.map((comment) => (_jsxs("article", { className: "comment", children: [_jsx("strong", { children: comment.authorEmail }), _jsx("p", { style: { margin: "0.25rem 0" }, children: comment.body }), _jsx("small", { style: { color: "#6b7280" }, children: dayjs(comment.createdAt).fromNow() })] }, comment.id))), commentsQuery.data?.length === 0 && _jsx("p", { children: "No comments yet. Be the first!" })] }));
+    const comments = commentsQuery.data?.pages.flatMap((page) => page.items) ?? [];
+    return (_jsxs("div", { children: [comments.map((comment) => (_jsxs("article", { className: "comment", children: [_jsx("strong", { children: comment.authorEmail }), _jsx("p", { style: { margin: "0.25rem 0" }, children: comment.body }), _jsx("small", { style: { color: "#6b7280" }, children: dayjs(comment.createdAt).fromNow() })] }, comment.id))), comments.length === 0 && _jsx("p", { children: "No comments yet. Be the first!" }), commentsQuery.hasNextPage && (_jsx("button", { className: "btn btn-secondary", onClick: () => commentsQuery.fetchNextPage(), disabled: commentsQuery.isFetchingNextPage, children: commentsQuery.isFetchingNextPage ? "Loading..." : "Load more comments" }))] }));
 };
 const TaskCard = ({ task, onChangeStatus, onAddComment, onEdit, onDelete, isEditing, isDeleting }) => {
     const [showComments, setShowComments] = useState(false);
@@ -39,7 +42,7 @@ const TaskCard = ({ task, onChangeStatus, onAddComment, onEdit, onDelete, isEdit
                 return TaskStatus.BACKLOG;
         }
     }, [task.status]);
-    return (_jsxs("article", { className: "card task-card", children: [_jsxs("header", { children: [_jsxs("div", { children: [_jsx("h3", { style: { marginBottom: "0.2rem" }, children: task.title }), _jsx("span", { className: `status-chip status-${task.status}`, children: taskStatusLabels[task.status] })] }), _jsxs("div", { style: { display: "flex", gap: "0.5rem" }, children: [_jsxs("button", { className: "btn btn-secondary", onClick: () => onChangeStatus(task.id, nextStatus), children: ["Move to ", taskStatusLabels[nextStatus]] }), _jsx("button", { className: "btn btn-secondary", onClick: () => onEdit(task), disabled: isEditing, children: isEditing ? "Saving..." : "Edit" }), _jsx("button", { className: "btn btn-secondary", onClick: () => onDelete(task), disabled: isDeleting, children: isDeleting ? "Deleting..." : "Delete" })] })] }), _jsx("p", { style: { color: "#4b5563" }, children: task.description ?? "No description" }), _jsxs("p", { style: { color: "#6b7280" }, children: ["Due: ", task.dueDate ? dayjs(task.dueDate).format("MMM D") : "Not set", " \u2022 Assignee:", " ", task.assigneeEmail ?? "Unassigned"] }), _jsxs("div", { className: "comment-box", children: [_jsxs("button", { className: "btn btn-secondary", onClick: () => setShowComments((prev) => !prev), children: [showComments ? "Hide" : "Show", " comments (", task.comments.length, ")"] }), showComments && (_jsxs(_Fragment, { children: [_jsx(TaskComments, { taskId: task.id }), _jsxs("form", { onSubmit: async (evt) => {
+    return (_jsxs("article", { className: "card task-card", children: [_jsxs("header", { children: [_jsxs("div", { children: [_jsx("h3", { style: { marginBottom: "0.2rem" }, children: task.title }), _jsx("span", { className: `status-chip status-${task.status}`, children: taskStatusLabels[task.status] })] }), _jsxs("div", { style: { display: "flex", gap: "0.5rem" }, children: [_jsxs("button", { className: "btn btn-secondary", onClick: () => onChangeStatus(task.id, nextStatus), children: ["Move to ", taskStatusLabels[nextStatus]] }), _jsx("button", { className: "btn btn-secondary", onClick: () => onEdit(task), disabled: isEditing, children: isEditing ? "Saving..." : "Edit" }), _jsx("button", { className: "btn btn-secondary", onClick: () => onDelete(task), disabled: isDeleting, children: isDeleting ? "Deleting..." : "Delete" })] })] }), _jsx("p", { style: { color: "#4b5563" }, children: task.description ?? "No description" }), _jsxs("p", { style: { color: "#6b7280" }, children: ["Due: ", task.dueDate ? dayjs(task.dueDate).format("MMM D") : "Not set", " \u2022 Assignee:", " ", task.assigneeEmail ?? "Unassigned"] }), _jsxs("div", { className: "comment-box", children: [_jsxs("button", { className: "btn btn-secondary", onClick: () => setShowComments((prev) => !prev), children: [showComments ? "Hide" : "Show", " comments (", task.commentCount, ")"] }), showComments && (_jsxs(_Fragment, { children: [_jsx(TaskComments, { taskId: task.id }), _jsxs("form", { onSubmit: async (evt) => {
                                     evt.preventDefault();
                                     if (!commentText)
                                         return;
@@ -58,11 +61,27 @@ export const ProjectDetailPage = () => {
         // Skip the request entirely if projectId was not present in the URL.
         enabled: Number.isFinite(projectIdNumber)
     });
-    const tasksQuery = useQuery({
+    // The board starts with one page of tasks and fetches the next as the end of the list scrolls into view.
+    const tasksQuery = useInfiniteQuery({
         queryKey: ["project", projectIdNumber, "tasks"],
-        queryFn: () => getProjectTasks(projectIdNumber),
+        queryFn: ({ pageParam }) => getProjectTasks(projectIdNumber, pageParam),
+        initialPageParam: undefined,
+        getNextPageParam: (lastPage) => lastPage.nextCursor ?? undefined,
         enabled: Number.isFinite(projectIdNumber)
     });
+    const { hasNextPage, isFetchingNextPage, fetchNextPage } = tasksQuery;
+    const loadMoreRef = useRef(null);
+    useEffect(() => {
+        const sentinel = loadMoreRef.current;
+        if (!sentinel || !hasNextPage)
+            return;
+        const observer = new IntersectionObserver((entries) => {
+            if (entries[0].isIntersecting && !isFetchingNextPage)
+                fetchNextPage();
+        }, { rootMargin: "400px" });
+        observer.observe(sentinel);
+        return () => observer.disconnect();
+    }, [hasNextPage, isFetchingNextPage, fetchNextPage]);
     const addTaskMutation = useMutation({
         mutationFn: (values) => createTask(projectIdNumber, values),
         onSuccess: () => {
@@ -176,8 +195,8 @@ export const ProjectDetailPage = () => {
         return (_jsx("div", { className: "card", children: _jsxs("p", { style: { color: "crimson" }, children: ["Could not find that project. ", _jsx(Link, { to: "/", children: "Back to list" })] }) }));
     }
     const project = projectQuery.data;
-    const tasks = tasksQuery.data ?? [];
+    const tasks = tasksQuery.data?.pages.flatMap((page) => page.items) ?? [];
     return (_jsxs(_Fragment, { children: [_jsx("nav", { style: { marginBottom: "1rem" }, children: _jsx(Link, { to: "/", children: "\u2190 Back to projects" }) }), _jsxs("section", { className: "card", children: [_jsxs("div", { style: { display: "flex", justifyContent: "space-between", alignItems: "center", gap: "1rem" }, children: [_jsxs("div", { children: [_jsx("h2", { children: project.name }), _jsx("p", { style: { color: "#4b5563" }, children: project.description ?? "No description yet" }), _jsxs("p", { style: { color: "#6b7280" }, children: ["Owner: ", project.ownerEmail, " \u2022 Created ", dayjs(project.createdAt).fromNow()] })] }), _jsxs("div", { style: { display: "flex", gap: "0.5rem" }, children: [_jsx("button", { className: "btn btn-secondary", onClick: () => handleEditProject(project), disabled: updateProjectMutation.isPending, children: updateProjectMutation.isPending ? "Saving..." : "Edit" }), _jsx("button", { className: "btn btn-secondary", onClick: () => handleDeleteProject(project), disabled: deleteProjectMutation.isPending, children: deleteProjectMutation.isPending ? "Deleting..." : "Delete" })] })] }), (updateProjectMutation.isError || deleteProjectMutation.isError) && (_jsx("p", { style: { color: "crimson", marginTop: "1rem" }, children: "Could not update this project. Please try again." }))] }), _jsxs("section", { className: "card", children: [_jsx("h3", { children: "Create task" }), _jsxs("form", { className: "form-grid", onSubmit: onCreateTask, children: [_jsxs("label", { children: ["Title", _jsx("input", { placeholder: "Draft onboarding email", ...register("title", { required: true }) })] }), _jsxs("label", { children: ["Description", _jsx("textarea", { ...register("description"), placeholder: "Optional details" })] }), _jsxs("label", { children: ["Due date", _jsx("input", { type: "date", ...register("dueDate") })] }), _jsxs("label", { children: ["Status", _jsx("select", { ...register("status"), children: Object.values(TaskStatus).map((status) => (_jsx("option", { value: status, children: taskStatusLabels[status] }, status))) })] }), _jsxs("label", { children: ["Assignee email", _jsx("input", { type: "email", placeholder: "member@taskflow.dev", ...register("assigneeEmail") })] }), _jsx("button", { className: "btn btn-primary", disabled: isSubmitting || addTaskMutation.isPending, children: addTaskMutation.isPending ? "Creating..." : "Add task" }), addTaskMutation.isError && (_jsx("p", { style: { color: "crimson" }, children: "Unable to create task. Make sure the assignee email exists." }))] })] }), _jsxs("section", { children: [_jsx("h3", { style: { marginBottom: "1rem" }, children: "Tasks" }), _jsxs("div", { className: "task-list", children: [tasks.map((task) => (_jsx(TaskCard, { task: task, onChangeStatus: (taskId, status) => updateStatusMutation.mutate({ taskId, status }), onAddComment: async (taskId, body) => {
                                     await addCommentMutation.mutateAsync({ taskId, body });
-                                }, onEdit: handleEditTask, onDelete: handleDeleteTask, isEditing: updateTaskMutation.isPending && updateTaskMutation.variables?.taskId === task.id, isDeleting: deleteTaskMutation.isPending && deleteTaskMutation.variables === task.id }, task.id))), tasks.length === 0 && _jsx("p", { children: "No tasks yet. Start by creating one above." })] }), (updateTaskMutation.isError || deleteTaskMutation.isError) && (_jsx("p", { style: { color: "crimson", marginTop: "1rem" }, children: "Could not update this task. Please try again." }))] })] }));
+                                }, onEdit: handleEditTask, onDelete: handleDeleteTask, isEditing: updateTaskMutation.isPending && updateTaskMutation.variables?.taskId === task.id, isDeleting: deleteTaskMutation.isPending && deleteTaskMutation.variables === task.id }, task.id))), tasks.length === 0 && _jsx("p", { children: "No tasks yet. Start by creating one above." })] }), _jsx("div", { ref: loadMoreRef }), hasNextPage && (_jsx("button", { className: "btn btn-secondary", onClick: () => fetchNextPage(), disabled: isFetchingNextPage, children: isFetchingNextPage ? "Loading..." : "Load more tasks" })), (updateTaskMutation.isError || deleteTaskMutation.isError) && (_jsx("p", { style: { color: "crimson", marginTop: "1rem" }, children: "Could not update this task. Please try again." }))] })] }));
 };
@@ -1,5 +1,5 @@
-import { useMemo, useState } from "react";
-import { useMutation, useQuery, useQueryClient } from "@tanstack/react-query";
+import { useEffect, useMemo, useRef, useState } from "react";
+import { useInfiniteQuery, useMutation, useQuery, useQueryClient } from "@tanstack/react-query";
 import { Link, useParams } from "react-router-dom";
 import {
   addComment,
@@ -33,28 +33,41 @@ type TaskFormValues = {
 };
 
 /**
- * Inner component that loads comments lazily once the user expands the section.
+ * Inner component that loads comments lazily once the user expands the section, one page at a time.
  */
 const TaskComments = ({ taskId }: { taskId: number }) => {
-  const commentsQuery = useQuery({
+  const commentsQuery = useInfiniteQuery({
     queryKey: ["task", taskId, "comments"],
-    queryFn: () => getTaskComments(taskId)
+    queryFn: ({ pageParam }) => getTaskComments(taskId, pageParam),
+    initialPageParam: undefined as string | undefined,
+    getNextPageParam: (lastPage) => lastPage.nextCursor ?? undefined
   });
 
   if (commentsQuery.isLoading) return <p>Loading comments...</p>;
   if (commentsQuery.isError)
     return <p style={{ color: "crimson" }}>Could not load comments. Try refreshing.</p>;
 
+  const comments = commentsQuery.data?.pages.flatMap((page) => page.items) ?? [];
+
   return (
     <div>
-      {commentsQuery.data?.map((comment) => (
+      {comments.map((comment) => (
         <article className="comment" key={comment.id}>
           <strong>{comment.authorEmail}</strong>
           <p style={{ margin: "0.25rem 0" }}>{comment.body}</p>
           <small style={{ color: "#6b7280" }}>{dayjs(comment.createdAt).fromNow()}</small>
         </article>
       ))}
-      {commentsQuery.data?.length === 0 && <p>No comments yet. Be the first!</p>}
+      {comments.length === 0 && <p>No comments yet. Be the first!</p>}
+      {commentsQuery.hasNextPage && (
+        <button
+          className="btn btn-secondary"
+          onClick={() => commentsQuery.fetchNextPage()}
+          disabled={commentsQuery.isFetchingNextPage}
+        >
+          {commentsQuery.isFetchingNextPage ? "Loading..." : "Load more comments"}
+        </button>
+      )}
     </div>
   );
 };
@@ -118,7 +131,7 @@ const TaskCard = ({
       </p>
       <div className="comment-box">
         <button className="btn btn-secondary" onClick={() => setShowComments((prev) => !prev)}>
-          {showComments ? "Hide" : "Show"} comments ({task.comments.length})
+          {showComments ? "Hide" : "Show"} comments ({task.commentCount})
         </button>
         {showComments && (
           <>
@@ -161,11 +174,29 @@ export const ProjectDetailPage = () => {
     enabled: Number.isFinite(projectIdNumber)
   });
 
-  const tasksQuery = useQuery({
+  // The board starts with one page of tasks and fetches the next as the end of the list scrolls into view.
+  const tasksQuery = useInfiniteQuery({
     queryKey: ["project", projectIdNumber, "tasks"],
-    queryFn: () => getProjectTasks(projectIdNumber),
+    queryFn: ({ pageParam }) => getProjectTasks(projectIdNumber, pageParam),
+    initialPageParam: undefined as string | undefined,
+    getNextPageParam: (lastPage) => lastPage.nextCursor ?? undefined,
     enabled: Number.isFinite(projectIdNumber)
   });
+  const { hasNextPage, isFetchingNextPage, fetchNextPage } = tasksQuery;
+  const loadMoreRef = useRef<HTMLDivElement | null>(null);
+
+  useEffect(() => {
+    const sentinel = loadMoreRef.current;
+    if (!sentinel || !hasNextPage) return;
+    const observer = new IntersectionObserver(
+      (entries) => {
+        if (entries[0].isIntersecting && !isFetchingNextPage) fetchNextPage();
+      },
+      { rootMargin: "400px" }
+    );
+    observer.observe(sentinel);
+    return () => observer.disconnect();
+  }, [hasNextPage, isFetchingNextPage, fetchNextPage]);
 
   const addTaskMutation = useMutation({
     mutationFn: (values: TaskFormValues) => createTask(projectIdNumber, values),
@@ -307,7 +338,7 @@ export const ProjectDetailPage = () => {
   }
 
   const project: Project = projectQuery.data;
-  const tasks: Task[] = tasksQuery.data ?? [];
+  const tasks: Task[] = tasksQuery.data?.pages.flatMap((page) => page.items) ?? [];
 
   return (
     <>
@@ -396,6 +427,12 @@ export const ProjectDetailPage = () => {
           ))}
           {tasks.length === 0 && <p>No tasks yet. Start by creating one above.</p>}
         </div>
+        <div ref={loadMoreRef} />
+        {hasNextPage && (
+          <button className="btn btn-secondary" onClick={() => fetchNextPage()} disabled={isFetchingNextPage}>
+            {isFetchingNextPage ? "Loading..." : "Load more tasks"}
+          </button>
+        )}
         {(updateTaskMutation.isError || deleteTaskMutation.isError) && (
           <p style={{ color: "crimson", marginTop: "1rem" }}>Could not update this task. Please try again.</p>
         )}